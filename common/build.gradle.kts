@@ -83,6 +83,38 @@ dependencies {
     // Moon Config (Used for HypherConverter)
     shade("me.hypherionmc.moon-config:core:${"moonconf_version"()!!}")
     shade("me.hypherionmc.moon-config:toml:${"moonconf_version"()!!}")
+
+    // Testing Dependencies
+    testImplementation(platform("org.junit:junit-bom:${"junit_version"()!!}"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+tasks.withType<Test>().configureEach {
+    // Migrations write config data relative to the working directory, so keep it within the build output
+    val testRunDir = layout.buildDirectory.dir("test-run").get().asFile
+    workingDir = testRunDir
+    doFirst {
+        testRunDir.mkdirs()
+    }
+}
+
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+// Timing checks are opt-in, as they depend on the speed of the machine running them
+tasks.register<Test>("benchmark") {
+    description = "Runs the benchmark-tagged tests."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    shouldRunAfter(tasks.test)
 }
 
 // JSON to LANG Conversion Setup (Below 18w02a, 1.13)
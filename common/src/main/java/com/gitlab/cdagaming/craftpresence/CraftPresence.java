@@ -26,6 +26,7 @@ package com.gitlab.cdagaming.craftpresence;
 
 import com.gitlab.cdagaming.craftpresence.core.Constants;
 import com.gitlab.cdagaming.craftpresence.core.config.Config;
+import com.gitlab.cdagaming.craftpresence.core.config.ConfigWatcher;
 import com.gitlab.cdagaming.craftpresence.core.integrations.discord.DiscordUtils;
 import com.gitlab.cdagaming.craftpresence.utils.CommandUtils;
 import com.gitlab.cdagaming.craftpresence.utils.entity.EntityUtils;
@@ -168,13 +169,14 @@ public class CraftPresence {
 
         CONFIG = Config.loadOrCreate(
                 config -> config.applyEvents(
-                        (instance -> CommandUtils.reloadData(true)),
-                        CommandUtils::applyData
+                        CommandUtils::applySettings,
+                        (instance, old) -> CommandUtils.applySettings(instance)
                 ).setGameVersion(ModUtils.MCProtocolID),
                 CommandUtils::preInit
         );
 
         CommandUtils.init();
+        ConfigWatcher.start(ModUtils.MCProtocolID);
 
         // If running in Debug Mode, Warn of Possible Issues and Log OS Info
         Constants.LOG.debugWarn(Constants.TRANSLATOR.translate("craftpresence.logger.warning.debug_mode"));
@@ -217,6 +219,7 @@ public class CraftPresence {
                     username = GameUtils.getUsername(instance);
                     uuid = GameUtils.getUuid(instance);
 
+                    CommandUtils.syncConfigChanges();
                     CommandUtils.reloadData(false);
                 } else if (session != null) {
                     init();
@@ -122,21 +122,14 @@ public class DisplaySettingsGui extends ConfigurationGui<Display> {
                                                                         .setName(attributeName)
                                                                         .setUrl(inputText)
                                                                         .setType(DiscordAsset.AssetType.CUSTOM);
-                                                                if (!DiscordAssetUtils.CUSTOM_ASSET_LIST.containsKey(asset.getName())) {
-                                                                    DiscordAssetUtils.CUSTOM_ASSET_LIST.put(asset.getName(), asset);
-                                                                }
-                                                                // If a Discord Icon exists with the same name, give priority to the custom one
-                                                                DiscordAssetUtils.ASSET_LIST.put(asset.getName(), asset);
+                                                                DiscordAssetUtils.addCustomAsset(asset);
                                                             },
                                                             (screenInstance) -> {
                                                                 // Event to occur when removing set data
                                                                 final String attributeName = screenInstance.getSecondaryEntry();
 
                                                                 getInstanceData().dynamicIcons.remove(attributeName);
-                                                                if (DiscordAssetUtils.CUSTOM_ASSET_LIST.containsKey(attributeName)) {
-                                                                    DiscordAssetUtils.CUSTOM_ASSET_LIST.remove(attributeName);
-                                                                    DiscordAssetUtils.ASSET_LIST.remove(attributeName);
-                                                                }
+                                                                DiscordAssetUtils.removeCustomAsset(attributeName);
                                                             }, null,
                                                             (attributeName, screenInstance) -> {
                                                                 // Event to occur when Hovering over Primary Label
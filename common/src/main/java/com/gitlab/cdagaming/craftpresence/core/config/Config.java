@@ -30,12 +30,17 @@ import com.gitlab.cdagaming.craftpresence.core.config.element.Button;
 import com.gitlab.cdagaming.craftpresence.core.config.element.ModuleData;
 import com.gitlab.cdagaming.craftpresence.core.config.element.PresenceData;
 import com.gitlab.cdagaming.craftpresence.core.config.migration.HypherConverter;
+import com.gitlab.cdagaming.craftpresence.core.config.migration.JsonMigration;
 import com.gitlab.cdagaming.craftpresence.core.config.migration.Legacy2Modern;
 import com.gitlab.cdagaming.craftpresence.core.config.migration.TextReplacer;
+import com.gitlab.cdagaming.craftpresence.core.impl.ReflectionCache;
 import com.gitlab.cdagaming.unilib.core.CoreUtils;
 import com.gitlab.cdagaming.unilib.core.impl.KeyConverter;
 import com.gitlab.cdagaming.unilib.core.impl.TranslationConverter;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import io.github.cdagaming.unicore.impl.HashMapBuilder;
 import io.github.cdagaming.unicore.impl.Pair;
 import io.github.cdagaming.unicore.impl.Tuple;
@@ -48,11 +53,16 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.Serial;
 import java.io.Serializable;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -66,6 +76,12 @@ public final class Config extends Module implements Serializable {
     private static final int VERSION = 7;
     private static final List<String> keyCodeTriggers = StringUtils.newArrayList("keycode", "keybinding");
     private static final List<String> languageTriggers = StringUtils.newArrayList("language", "lang", "langId", "languageId");
+    private static final List<String> categoryNames = StringUtils.newArrayList(
+            "generalSettings", "biomeSettings", "dimensionSettings", "serverSettings",
+            "statusMessages", "advancedSettings", "accessibilitySettings", "displaySettings"
+    );
+    // Shared serializer for config data, matching the FileUtils DISABLE_ESCAPES and PRETTY_PRINT modifiers
+    static final Gson GSON = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting().create();
     private static final Config DEFAULT = new Config().applyDefaults();
     // Global Settings
     public int _schemaVersion = 0;
@@ -97,6 +113,47 @@ public final class Config extends Module implements Serializable {
         return new Config(DEFAULT);
     }
 
+    public static Object getDefaultValue(final String... path) {
+        // Mutable values are copied, to avoid sharing instances with the cached default values
+        return copyValue(DefaultsHolder.VALUES.get(Arrays.asList(path)));
+    }
+
+    private static Object copyValue(final Object value) {
+        if (value instanceof Module module) {
+            return module.copy();
+        } else if (value instanceof Map<?, ?> map) {
+            final Map<Object, Object> result = StringUtils.newHashMap();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                result.put(entry.getKey(), copyValue(entry.getValue()));
+            }
+            return result;
+        } else if (value instanceof List<?> list) {
+            final List<Object> result = StringUtils.newArrayList();
+            for (Object entry : list) {
+                result.add(copyValue(entry));
+            }
+            return result;
+        }
+        return value;
+    }
+
+    // Whether the specified raw json path refers to a property of a Module,
+    // as opposed to an entry of a user-defined mapping (such as `dynamicVariables`) or list
+    public static boolean isModuleProperty(final List<String> path) {
+        Type type = Config.class;
+        for (int i = 0; i < path.size() - 1 && type != null; i++) {
+            if (type instanceof Class<?> classObj && Module.class.isAssignableFrom(classObj)) {
+                type = FieldAccessors.getType(classObj, path.get(i));
+            } else if (type instanceof ParameterizedType paramType &&
+                    paramType.getRawType() instanceof Class<?> rawType && Map.class.isAssignableFrom(rawType)) {
+                type = paramType.getActualTypeArguments()[1];
+            } else {
+                type = null;
+            }
+        }
+        return type instanceof Class<?> classObj && Module.class.isAssignableFrom(classObj);
+    }
+
     public static String getConfigPath() {
         return Constants.configDir + File.separator + Constants.MOD_ID + ".json";
     }
@@ -105,14 +162,24 @@ public final class Config extends Module implements Serializable {
         return new File(getConfigPath());
     }
 
+    public static Config fromJson(final JsonElement rawJson) {
+        return GSON.fromJson(rawJson, Config.class);
+    }
+
+    public static List<String> getCategoryNames() {
+        return categoryNames;
+    }
+
     public static Pair<Config, JsonElement> read() {
         Config config = null;
         JsonElement rawJson = null;
 
+        // Ensure any pending saves are written before reading
+        ConfigSaver.flush();
         try {
-            config = FileUtils.getJsonData(getConfigFile(), Config.class,
-                    FileUtils.Modifiers.DISABLE_ESCAPES, FileUtils.Modifiers.PRETTY_PRINT);
+            // Parse the file once, binding the config from the resulting tree
             rawJson = FileUtils.getJsonData(getConfigFile(), JsonElement.class);
+            config = fromJson(rawJson);
         } catch (Throwable ex) {
             if (ex.getClass() != FileNotFoundException.class && ex.getClass() != NoSuchFileException.class) {
                 Constants.LOG.error(Constants.TRANSLATOR.translate("craftpresence.logger.error.config.save"));
@@ -349,13 +416,21 @@ public final class Config extends Module implements Serializable {
             if (currentVer < newVer) {
                 Constants.LOG.info(Constants.TRANSLATOR.translate("craftpresence.logger.info.config.outdated", currentVer, newVer));
 
+                final long migrationStart = System.nanoTime();
+                // Schema layers are expressed as transforms over the raw json,
+                // fused into a single traversal and bound to this instance once
+                final JsonMigration migration = new JsonMigration();
+                String startTimestamp = null;
                 if (MathUtils.isWithinValue(currentVer, 1, 2, true, false)) {
                     // Schema Changes (v1 -> v2)
                     //  - Property: `generalSettings.showTime` -> `displaySettings.presenceData.startTimestamp`
-                    final boolean showTime = rawJson.getAsJsonObject()
-                            .getAsJsonObject("generalSettings")
-                            .getAsJsonPrimitive("showTime").getAsBoolean();
-                    displaySettings.presenceData.startTimestamp = showTime ? "{data.general.time}" : "";
+                    // v1 data has no `presenceData` to write into, so this is applied once bound
+                    final JsonObject generalData = rawJson != null && rawJson.isJsonObject() ?
+                            JsonMigration.getObject(rawJson.getAsJsonObject(), "generalSettings") : null;
+                    if (generalData != null && generalData.has("showTime")) {
+                        final boolean showTime = generalData.getAsJsonPrimitive("showTime").getAsBoolean();
+                        startTimestamp = showTime ? "{data.general.time}" : "";
+                    }
                     currentVer = 2;
                 }
                 if (MathUtils.isWithinValue(currentVer, 2, 3, true, false)) {
@@ -363,14 +438,15 @@ public final class Config extends Module implements Serializable {
                     //  - Placeholder: `world.time24` -> `world.time.format_24`
                     //  - Placeholder: `world.time12` -> `world.time.format_12`
                     //  - Placeholder: `world.day` -> `world.time.day`
-                    new TextReplacer(
+                    final TextReplacer replacer = new TextReplacer(
                             new HashMapBuilder<String, String>()
                                     .put("world.time24", "world.time.format_24")
                                     .put("world.time12", "world.time.format_12")
                                     .put("world.day", "world.time.day")
                                     .build(),
                             true
-                    ).apply(this, rawJson);
+                    );
+                    migration.onString(replacer::processProperty);
                     currentVer = 3;
                 }
                 if (MathUtils.isWithinValue(currentVer, 3, 4, true, false)) {
@@ -423,12 +499,13 @@ public final class Config extends Module implements Serializable {
                 if (MathUtils.isWithinValue(currentVer, 4, 5, true, false)) {
                     // Schema Changes (v4 -> v5)
                     //  - Placeholder: `data.screen.class` -> `getClass(data.screen.instance)`
-                    new TextReplacer(
+                    final TextReplacer replacer = new TextReplacer(
                             new HashMapBuilder<String, String>()
                                     .put("data.screen.class", "getClass(data.screen.instance)")
                                     .build(),
                             true
-                    ).apply(this, rawJson);
+                    );
+                    migration.onString(replacer::processProperty);
                     currentVer = 5;
                 }
                 if (MathUtils.isWithinValue(currentVer, 5, 6, true, false)) {
@@ -445,53 +522,37 @@ public final class Config extends Module implements Serializable {
                     //  - Removed `PresenceData#buttons#default`
                     //  - Removed `displaySettings.dynamicIcons#default`
                     //  - Removed `displaySettings.dynamicVariables#default`
-                    displaySettings.dynamicIcons.remove("default");
-                    displaySettings.dynamicVariables.remove("default");
-                    displaySettings.presenceData.removeButton("default");
-
-                    for (ModuleData entry : biomeSettings.biomeData.values()) {
-                        v6Tov7_BtnFixer(entry);
-                    }
-                    for (ModuleData entry : dimensionSettings.dimensionData.values()) {
-                        v6Tov7_BtnFixer(entry);
-                    }
-                    for (ModuleData entry : advancedSettings.entitySettings.targetData.values()) {
-                        v6Tov7_BtnFixer(entry);
-                    }
-                    for (ModuleData entry : advancedSettings.entitySettings.ridingData.values()) {
-                        v6Tov7_BtnFixer(entry);
-                    }
-                    for (ModuleData entry : advancedSettings.guiSettings.guiData.values()) {
-                        v6Tov7_BtnFixer(entry);
-                    }
-                    for (ModuleData entry : serverSettings.serverData.values()) {
-                        v6Tov7_BtnFixer(entry);
-                    }
-
-                    v6Tov7_BtnFixer(statusMessages.mainMenuData);
-                    v6Tov7_BtnFixer(statusMessages.loadingData);
-                    v6Tov7_BtnFixer(statusMessages.lanData);
-                    v6Tov7_BtnFixer(statusMessages.singleplayerData);
-                    v6Tov7_BtnFixer(statusMessages.realmData);
-
+                    migration.onObject((path, data) -> {
+                        if (path.size() == 1 && path.getFirst().equals("displaySettings")) {
+                            v6Tov7_DefaultRemover(JsonMigration.getObject(data, "dynamicIcons"));
+                            v6Tov7_DefaultRemover(JsonMigration.getObject(data, "dynamicVariables"));
+                        } else if (!path.isEmpty() && path.getLast().equals("buttons")) {
+                            v6Tov7_DefaultRemover(data);
+                        }
+                    });
                     currentVer = 7;
                 }
 
-                save();
+                if (!migration.isEmpty()) {
+                    transferSettings(fromJson(migration.apply(rawJson)));
+                }
+                if (startTimestamp != null) {
+                    displaySettings.presenceData.startTimestamp = startTimestamp;
+                }
+                Constants.LOG.debugInfo("Migrated config from schema v%d to v%d in %d ms",
+                        oldVer, currentVer, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - migrationStart)
+                );
             }
 
             // Refresh the raw json contents, in case of any changes
-            rawJson = read().getSecond();
+            rawJson = toJson();
         }
         return rawJson;
     }
 
-    private void v6Tov7_BtnFixer(final ModuleData entry) {
-        if (entry != null) {
-            final Object prop = entry.getProperty("data");
-            if (prop instanceof PresenceData data) {
-                data.buttons.remove("default");
-            }
+    private void v6Tov7_DefaultRemover(final JsonObject data) {
+        if (data != null) {
+            data.remove("default");
         }
     }
 
@@ -511,7 +572,8 @@ public final class Config extends Module implements Serializable {
                 final String[] pathData = configPath.toArray(new String[0]);
 
                 final JsonElement rawValue = entry.getValue();
-                Object defaultValue = getDefaults().findProperty(pathData);
+                // Read-only usage, so the cached default value is used as-is
+                Object defaultValue = DefaultsHolder.VALUES.get(configPath);
                 Object currentValue = findProperty(pathData);
                 boolean shouldReset = false, shouldContinue = true;
 
@@ -561,7 +623,9 @@ public final class Config extends Module implements Serializable {
                                 }
                             } else if (currentValue instanceof Map<?, ?>) {
                                 final Map<Object, Object> newData = StringUtils.newHashMap((Map<?, ?>) currentValue);
-                                final Map<Object, Object> defaultData = StringUtils.newHashMap((Map<?, ?>) defaultValue);
+                                final Object defaultMap = getDefaultValue(pathData);
+                                final Map<Object, Object> defaultData = defaultMap instanceof Map<?, ?> ?
+                                        (Map<Object, Object>) defaultMap : StringUtils.newHashMap();
                                 if (!newData.containsKey("default") && defaultData.containsKey("default")) {
                                     Constants.LOG.error(Constants.TRANSLATOR.translate("craftpresence.logger.error.config.missing.default", rawName));
                                     newData.putAll(defaultData);
@@ -668,9 +732,13 @@ public final class Config extends Module implements Serializable {
         return !isNewFile ? handleVerification(rawJson, keyCodeMigrationId, languageMigrationId) : rawJson;
     }
 
+    public JsonElement toJson() {
+        return GSON.toJsonTree(this);
+    }
+
     public void save(final boolean shouldApply) {
-        FileUtils.writeJsonData(this, getConfigFile(), "UTF-8",
-                FileUtils.Modifiers.DISABLE_ESCAPES, FileUtils.Modifiers.PRETTY_PRINT);
+        // Copy as our snapshot, deferring serialization and the file write to the save service
+        ConfigSaver.request(copy());
         if (shouldApply) {
             applySettings();
         }
@@ -690,11 +758,11 @@ public final class Config extends Module implements Serializable {
             if (!StringUtils.isNullOrEmpty(path[i])) {
                 name = path[i];
                 if (instance instanceof Map<?, ?> map) {
-                    result = StringUtils.newHashMap(map).get(name);
+                    result = map.get(name);
                 } else if (instance instanceof Module module) {
                     result = module.getProperty(name);
                 } else {
-                    result = StringUtils.getField(classObj, instance, name);
+                    result = FieldAccessors.get(classObj, instance, name);
                 }
                 if (result != null) {
                     if (i < path.length - 1) {
@@ -740,6 +808,14 @@ public final class Config extends Module implements Serializable {
         if (propertyData.getFirst() != null) {
             final Tuple<Class<?>, Object, String> fieldData = propertyData.getSecond();
             if (fieldData.getSecond() instanceof Map<?, ?> map) {
+                try {
+                    // Update the map in-place, when it is modifiable
+                    ((Map<Object, Object>) map).put(fieldData.getThird(), value);
+                    return;
+                } catch (UnsupportedOperationException ignored) {
+                    // Fallback to replacing the map with an updated copy
+                }
+
                 final String[] parentPath = Arrays.copyOf(path, path.length - 1);
                 final Tuple<Class<?>, Object, String> parentData = lookupProperty(parentPath).getSecond();
 
@@ -749,13 +825,13 @@ public final class Config extends Module implements Serializable {
                 if (parentData.getSecond() instanceof Module module) {
                     module.setProperty(parentData.getThird(), data);
                 } else {
-                    StringUtils.updateField(parentData.getFirst(), parentData.getSecond(), data, parentData.getThird());
+                    FieldAccessors.set(parentData.getFirst(), parentData.getSecond(), data, parentData.getThird());
                 }
             } else {
                 if (fieldData.getSecond() instanceof Module module) {
                     module.setProperty(fieldData.getThird(), value);
                 } else {
-                    StringUtils.updateField(fieldData.getFirst(), fieldData.getSecond(), value, fieldData.getThird());
+                    FieldAccessors.set(fieldData.getFirst(), fieldData.getSecond(), value, fieldData.getThird());
                 }
             }
         }
@@ -819,7 +895,17 @@ public final class Config extends Module implements Serializable {
     }
 
     public void resetProperty(final String... path) {
-        setProperty(getDefaults().findProperty(path), path);
+        setProperty(getDefaultValue(path), path);
+    }
+
+    public List<String> getChangedCategories(final Config other) {
+        final List<String> results = StringUtils.newArrayList();
+        for (String name : categoryNames) {
+            if (!Objects.equals(getProperty(name), other.getProperty(name))) {
+                results.add(name);
+            }
+        }
+        return results;
     }
 
     public boolean areFlagsEqual(final Config other) {
@@ -869,4 +955,61 @@ public final class Config extends Module implements Serializable {
                 accessibilitySettings, displaySettings
         );
     }
+
+    // Read-only lookup table of default values, built once for the current schema version
+    // Format: path, defaultValue
+    private static final class DefaultsHolder {
+        private static final Map<List<String>, Object> VALUES = buildDefaults();
+
+        private static Map<List<String>, Object> buildDefaults() {
+            final Map<List<String>, Object> values = StringUtils.newHashMap();
+            buildDefaults(values, DEFAULT.toJson(), StringUtils.newArrayList());
+            return Collections.unmodifiableMap(values);
+        }
+
+        private static void buildDefaults(final Map<List<String>, Object> values, final JsonElement element, final List<String> path) {
+            if (element != null && element.isJsonObject()) {
+                for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                    final List<String> entryPath = new ArrayList<>(path);
+                    entryPath.add(entry.getKey());
+
+                    final Object value = DEFAULT.findProperty(entryPath.toArray(new String[0]));
+                    if (value != null) {
+                        values.put(Collections.unmodifiableList(entryPath), value);
+                        buildDefaults(values, entry.getValue(), entryPath);
+                    }
+                }
+            }
+        }
+    }
+
+    // Cached field accessors and types, for properties that are not exposed through a Module
+    // Format: class, [fieldName, type]
+    private static final class FieldAccessors {
+        private static final ReflectionCache ACCESSORS = new ReflectionCache();
+        private static final Map<Class<?>, Map<String, Type>> TYPES = StringUtils.newConcurrentHashMap();
+
+        private static Type getType(final Class<?> classObj, final String name) {
+            final Type type = TYPES.computeIfAbsent(classObj, key -> StringUtils.newConcurrentHashMap())
+                    .computeIfAbsent(name, key -> {
+                        for (Class<?> current = classObj; current != null; current = current.getSuperclass()) {
+                            try {
+                                return current.getDeclaredField(key).getGenericType();
+                            } catch (NoSuchFieldException ignored) {
+                                // Continue onto the superclass
+                            }
+                        }
+                        return Void.class;
+                    });
+            return type != Void.class ? type : null;
+        }
+
+        private static Object get(final Class<?> classObj, final Object instance, final String name) {
+            return ACCESSORS.getField(classObj, instance, name);
+        }
+
+        private static void set(final Class<?> classObj, final Object instance, final Object value, final String name) {
+            ACCESSORS.setField(classObj, instance, value, name);
+        }
+    }
 }
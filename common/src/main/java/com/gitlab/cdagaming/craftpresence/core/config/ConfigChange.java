@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.core.config;
+
+import java.util.List;
+
+/**
+ * A record mapping for a single changed property between two {@link Config} instances
+ *
+ * @param path     The path to the changed property, starting from the {@link Config} root
+ * @param oldValue The previous value of the property, or null if it was not present
+ * @param newValue The current value of the property, or null if it was removed
+ * @author CDAGaming
+ */
+public record ConfigChange(List<String> path, Object oldValue, Object newValue) {
+    /**
+     * Determine whether this change affects the specified config path
+     * <p>
+     * A change matches if its path begins with, or is a parent of, the specified path
+     *
+     * @param target The dot-separated config path to interpret, such as `biomeSettings.biomeData`
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean matches(final String target) {
+        final String[] parts = target.split("\\.");
+        final int length = Math.min(parts.length, path.size());
+        for (int i = 0; i < length; i++) {
+            if (!parts[i].equals(path.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Determine whether this change affects any of the specified config paths
+     *
+     * @param targets The dot-separated config paths to interpret
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean matchesAny(final List<String> targets) {
+        for (String target : targets) {
+            if (matches(target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retrieve the dot-separated form of this change's path
+     *
+     * @return the dot-separated config path
+     */
+    public String getPathName() {
+        return String.join(".", path);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.core.config;
+
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Structural comparison utilities for {@link Config} data
+ * <p>
+ * Properties are walked using the {@link Module#getProperty(String)} model,
+ * with unchanged sections being skipped through their equality checks
+ *
+ * @author CDAGaming
+ */
+public final class ConfigDiff {
+    /**
+     * Mapping of the serializable property names for each {@link Module} type
+     */
+    private static final Map<Class<?>, List<String>> PROPERTY_NAMES = StringUtils.newConcurrentHashMap();
+
+    /**
+     * Compute the changed properties between two {@link Config} instances
+     *
+     * @param old     The previous config data
+     * @param current The current config data
+     * @return the list of changed properties, as leaf-level changes where possible
+     */
+    public static List<ConfigChange> compare(final Config old, final Config current) {
+        final List<ConfigChange> changes = StringUtils.newArrayList();
+        for (String name : Config.getCategoryNames()) {
+            compare(StringUtils.newArrayList(name), old.getProperty(name), current.getProperty(name), changes);
+        }
+        return changes;
+    }
+
+    /**
+     * Determine whether any of the specified changes affect any of the specified config paths
+     *
+     * @param changes The changes to interpret
+     * @param targets The dot-separated config paths to interpret
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public static boolean hasChanged(final List<ConfigChange> changes, final String... targets) {
+        final List<String> targetList = Arrays.asList(targets);
+        for (ConfigChange change : changes) {
+            if (change.matchesAny(targetList)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retrieve the changes that affect any of the specified config paths
+     *
+     * @param changes The changes to interpret
+     * @param targets The dot-separated config paths to interpret
+     * @return the filtered list of changes
+     */
+    public static List<ConfigChange> filter(final List<ConfigChange> changes, final List<String> targets) {
+        final List<ConfigChange> results = StringUtils.newArrayList();
+        if (!targets.isEmpty()) {
+            for (ConfigChange change : changes) {
+                if (change.matchesAny(targets)) {
+                    results.add(change);
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Compare two property values, recording any changes found
+     *
+     * @param path     The path to the property being compared
+     * @param oldValue The previous property value
+     * @param newValue The current property value
+     * @param changes  The list to record changes to
+     */
+    private static void compare(final List<String> path, final Object oldValue, final Object newValue, final List<ConfigChange> changes) {
+        if (Objects.equals(oldValue, newValue)) {
+            return;
+        }
+
+        if (oldValue instanceof Module oldModule && newValue instanceof Module newModule &&
+                oldValue.getClass() == newValue.getClass()) {
+            for (String name : getPropertyNames(oldValue.getClass())) {
+                compare(append(path, name), oldModule.getProperty(name), newModule.getProperty(name), changes);
+            }
+        } else if (oldValue instanceof Map<?, ?> oldMap && newValue instanceof Map<?, ?> newMap) {
+            final Set<Object> keys = new LinkedHashSet<>(oldMap.keySet());
+            keys.addAll(newMap.keySet());
+            for (Object key : keys) {
+                compare(append(path, String.valueOf(key)), oldMap.get(key), newMap.get(key), changes);
+            }
+        } else {
+            changes.add(new ConfigChange(Collections.unmodifiableList(path), oldValue, newValue));
+        }
+    }
+
+    /**
+     * Create a new path, with the specified name appended
+     *
+     * @param path The original path
+     * @param name The name to append
+     * @return the resulting path
+     */
+    private static List<String> append(final List<String> path, final String name) {
+        final List<String> result = new ArrayList<>(path.size() + 1);
+        result.addAll(path);
+        result.add(name);
+        return result;
+    }
+
+    /**
+     * Retrieve the serializable property names for the specified {@link Module} type
+     *
+     * @param classObj The {@link Module} type to interpret
+     * @return the list of property names
+     */
+    private static List<String> getPropertyNames(final Class<?> classObj) {
+        return PROPERTY_NAMES.computeIfAbsent(classObj, key -> {
+            final List<String> names = StringUtils.newArrayList();
+            for (Class<?> current = key; current != null && current != Module.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    final int modifiers = field.getModifiers();
+                    if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)) {
+                        names.add(field.getName());
+                    }
+                }
+            }
+            return Collections.unmodifiableList(names);
+        });
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.core.config;
+
+import com.gitlab.cdagaming.craftpresence.core.Constants;
+
+import java.io.File;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Background persistence service for {@link Config} data
+ * <p>
+ * Save requests made in quick succession are coalesced, with each request postponing the write
+ * until no further requests arrive, and only the latest snapshot being written
+ * <p>
+ * Snapshots are serialized on the background thread, so that callers only pay for a {@link Config#copy()}
+ * <p>
+ * Each write is applied atomically via a temporary file
+ *
+ * @author CDAGaming
+ */
+public final class ConfigSaver {
+    /**
+     * The delay, in milliseconds, to wait for further save requests before writing
+     */
+    private static final long DEBOUNCE_DELAY = 250L;
+    /**
+     * The maximum delay, in milliseconds, that a write can be postponed by further save requests
+     */
+    private static final long MAX_DELAY = 2000L;
+    /**
+     * The executor used to write config data in the background
+     */
+    private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(Constants.getThreadFactory());
+    /**
+     * The latest config snapshot waiting to be written, if any
+     */
+    private static final AtomicReference<Config> PENDING = new AtomicReference<>();
+    /**
+     * The scheduled write for the pending snapshot, if any
+     */
+    private static ScheduledFuture<?> scheduledWrite;
+    /**
+     * The time, in milliseconds, that the pending snapshot was first requested
+     */
+    private static long firstRequest;
+    /**
+     * The contents of the most recent write performed by this service
+     */
+    private static volatile String lastWritten;
+    /**
+     * Whether a write is currently in progress
+     */
+    private static volatile boolean isWriting;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ConfigSaver::flush));
+    }
+
+    /**
+     * Queues the specified config snapshot to be written, replacing any snapshot not yet written
+     * <p>
+     * The write is rescheduled on each request, up to {@link ConfigSaver#MAX_DELAY} after the first pending request
+     *
+     * @param snapshot The config snapshot to write, which must not be modified afterwards
+     */
+    public static synchronized void request(final Config snapshot) {
+        final long now = System.currentTimeMillis();
+        if (PENDING.getAndSet(snapshot) == null) {
+            firstRequest = now;
+        }
+        if (scheduledWrite != null) {
+            scheduledWrite.cancel(false);
+        }
+        final long delay = Math.max(0L, Math.min(DEBOUNCE_DELAY, firstRequest + MAX_DELAY - now));
+        scheduledWrite = EXECUTOR.schedule(ConfigSaver::flush, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Determines whether a config snapshot is waiting to be, or currently being, written
+     *
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public static boolean isPending() {
+        return isWriting || PENDING.get() != null;
+    }
+
+    /**
+     * Retrieves the contents of the most recent write performed by this service
+     *
+     * @return the last written contents, or null if nothing has been written
+     */
+    public static String getLastWritten() {
+        return lastWritten;
+    }
+
+    /**
+     * Serializes and writes the pending config snapshot, if any, on the calling thread
+     */
+    public static synchronized void flush() {
+        isWriting = true;
+        try {
+            final Config snapshot = PENDING.getAndSet(null);
+            if (snapshot != null) {
+                write(Config.GSON.toJson(snapshot), Config.getConfigFile());
+            }
+        } finally {
+            isWriting = false;
+        }
+    }
+
+    /**
+     * Writes the specified serialized config data, replacing the target file atomically where supported
+     *
+     * @param contents The serialized config data to write
+     * @param file     The file to write to
+     */
+    private static void write(final String contents, final File file) {
+        final File tempFile = new File(file.getPath() + ".tmp");
+        try {
+            final File parentDir = file.getAbsoluteFile().getParentFile();
+            if (parentDir != null && !parentDir.exists() && !parentDir.mkdirs()) {
+                Constants.LOG.debugWarn("Unable to create config directory: " + parentDir);
+            }
+
+            try (Writer writer = new OutputStreamWriter(Files.newOutputStream(tempFile.toPath()), StandardCharsets.UTF_8)) {
+                writer.write(contents);
+            }
+            lastWritten = contents;
+
+            try {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (Throwable ex) {
+            Constants.LOG.error(Constants.TRANSLATOR.translate("craftpresence.logger.error.config.save"));
+            Constants.LOG.debugError(ex);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.core.config;
+
+import com.gitlab.cdagaming.craftpresence.core.Constants;
+import com.gitlab.cdagaming.unilib.core.impl.KeyConverter;
+import com.gitlab.cdagaming.unilib.core.impl.TranslationConverter;
+import com.google.gson.JsonElement;
+import io.github.cdagaming.unicore.utils.FileUtils;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * File watcher for external changes to {@link Config} data
+ * <p>
+ * Changed files are parsed and verified in the background, with the result
+ * being made available through {@link ConfigWatcher#poll()}
+ *
+ * @author CDAGaming
+ */
+public final class ConfigWatcher {
+    /**
+     * The delay, in milliseconds, to wait for further file events before reading
+     */
+    private static final long DEBOUNCE_DELAY = 200L;
+    /**
+     * The latest externally modified config data, waiting to be applied
+     */
+    private static final AtomicReference<Config> PENDING = new AtomicReference<>();
+    /**
+     * The thread used to watch for file changes
+     */
+    private static Thread watcherThread;
+    /**
+     * The service used to watch for file changes, while the watcher is running
+     */
+    private static WatchService watchService;
+    /**
+     * The game protocol version to verify config data against
+     */
+    private static volatile int gameVersion;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ConfigWatcher::stop));
+    }
+
+    /**
+     * Begins watching the config file for external changes, restarting the watcher if already running
+     *
+     * @param version The game protocol version to verify config data against
+     */
+    public static synchronized void start(final int version) {
+        stop();
+        gameVersion = version;
+        try {
+            final Path configDir = Config.getConfigFile().getAbsoluteFile().getParentFile().toPath();
+            watchService = configDir.getFileSystem().newWatchService();
+            configDir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (Throwable ex) {
+            Constants.LOG.debugError(ex);
+            stop();
+            return;
+        }
+        final WatchService service = watchService;
+        watcherThread = Constants.getThreadFactory().newThread(() -> run(service));
+        watcherThread.start();
+    }
+
+    /**
+     * Stops watching the config file for external changes, releasing the underlying watch service
+     */
+    public static synchronized void stop() {
+        if (watcherThread != null) {
+            watcherThread.interrupt();
+            watcherThread = null;
+        }
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (Throwable ex) {
+                Constants.LOG.debugError(ex);
+            }
+            watchService = null;
+        }
+        PENDING.set(null);
+    }
+
+    /**
+     * Retrieves and clears the latest externally modified config data
+     *
+     * @return the modified config data, or null if no changes are waiting
+     */
+    public static Config poll() {
+        return PENDING.getAndSet(null);
+    }
+
+    /**
+     * Watches the config directory, reading the config file whenever it is modified
+     *
+     * @param service The service used to watch for file changes
+     */
+    private static void run(final WatchService service) {
+        final File configFile = Config.getConfigFile().getAbsoluteFile();
+        final Path configName = configFile.toPath().getFileName();
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = service.take();
+                boolean hasChanged = false;
+                while (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (configName.equals(event.context())) {
+                            hasChanged = true;
+                        }
+                    }
+                    if (!key.reset()) {
+                        return;
+                    }
+                    // Coalesce any further events from the same burst of writes
+                    key = hasChanged ? service.poll(DEBOUNCE_DELAY, TimeUnit.MILLISECONDS) : null;
+                }
+
+                if (hasChanged) {
+                    // Defer reading until any pending save is written, then re-check the file
+                    while (ConfigSaver.isPending()) {
+                        Thread.sleep(DEBOUNCE_DELAY);
+                    }
+                    read(configFile);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignored) {
+            // Stopped while waiting for file events
+        } catch (Throwable ex) {
+            Constants.LOG.debugError(ex);
+        }
+    }
+
+    /**
+     * Parses and verifies the specified config file, queueing it to be applied
+     *
+     * @param configFile The config file to interpret
+     */
+    private static void read(final File configFile) {
+        try {
+            if (!configFile.exists()) {
+                return;
+            }
+            final String contents = new String(Files.readAllBytes(configFile.toPath()), StandardCharsets.UTF_8);
+            if (contents.equals(ConfigSaver.getLastWritten())) {
+                // Skip changes caused by our own saves
+                return;
+            }
+
+            final JsonElement rawJson = FileUtils.getJsonData(contents, JsonElement.class);
+            final Config config = Config.fromJson(rawJson);
+            if (config == null || config._schemaVersion != Config.getSchemaVersion()) {
+                return;
+            }
+            config.setGameVersion(gameVersion);
+            config.handleVerification(rawJson, KeyConverter.ConversionMode.None, TranslationConverter.ConversionMode.None);
+            PENDING.set(config);
+        } catch (Throwable ex) {
+            // Likely a partially written or invalid file, which will be retried on the next change
+            Constants.LOG.debugError(ex);
+        }
+    }
+}
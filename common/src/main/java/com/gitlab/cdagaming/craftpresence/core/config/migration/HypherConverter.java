@@ -29,10 +29,12 @@ import com.gitlab.cdagaming.craftpresence.core.config.Config;
 import com.gitlab.cdagaming.craftpresence.core.config.element.Button;
 import com.gitlab.cdagaming.craftpresence.core.config.element.ModuleData;
 import com.gitlab.cdagaming.craftpresence.core.config.element.PresenceData;
+import com.gitlab.cdagaming.craftpresence.core.impl.ReplacementAutomaton;
 import com.google.gson.JsonElement;
 import com.jagrosh.discordipc.entities.ActivityType;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.github.cdagaming.unicore.impl.HashMapBuilder;
+import io.github.cdagaming.unicore.impl.Pair;
 import io.github.cdagaming.unicore.utils.MathUtils;
 import io.github.cdagaming.unicore.utils.StringUtils;
 import me.hypherionmc.moonconfig.core.AbstractConfig;
@@ -42,7 +44,10 @@ import me.hypherionmc.moonconfig.core.file.FileConfig;
 import java.io.File;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Migration from SimpleRPC (Hypherion) Config to our {@link Config} format
@@ -53,6 +58,7 @@ public class HypherConverter implements DataMigrator {
     private static final Pattern EXPR_PATTERN = Pattern.compile("\\{(.*?)}");
     private static final int LOWEST_SUPPORTED = 13;
     private static final int HIGHEST_SUPPORTED = 26;
+    private static final int PARALLEL_THRESHOLD = 64;
     private final int fileVersion;
     private final String configPath, serverEntriesPath, replayModPath;
     // oldName -> newName (v18 and below)
@@ -137,6 +143,8 @@ public class HypherConverter implements DataMigrator {
             .put("{{launcher.pack}}", "{pack.name}")
             .put("{{launcher.icon}}", "{pack.icon}")
             .build();
+    private final ReplacementAutomaton placeholderReplacer = new ReplacementAutomaton(placeholderMappings);
+    private final ReplacementAutomaton placeholderReplacerV2 = new ReplacementAutomaton(placeholderMappingsV2);
     private int configVersion = -1, serverEntryVersion = -1, replayModVersion = -1;
 
     /**
@@ -156,7 +164,9 @@ public class HypherConverter implements DataMigrator {
     public Config apply(Config instance, JsonElement rawJson, Object... args) {
         Constants.LOG.info("Simple RPC (By: HypherionSA) config data found, attempting to migrate settings to CraftPresence...");
         Constants.LOG.info("Note: If CraftPresence fails to load after this point, please verify your SimpleRPC config settings or file a ticket.");
+        final long migrationStart = System.nanoTime();
         try (FileConfig conf = FileConfig.of(configPath)) {
+            final long fileStart = System.nanoTime();
             conf.load();
             configVersion = conf.getOrElse("general.version", -1);
             Constants.LOG.debugInfo("Main Config file found (Version: %d, File Version: %d), interpreting data...", configVersion, fileVersion);
@@ -183,6 +193,7 @@ public class HypherConverter implements DataMigrator {
             instance.generalSettings.detectTechnicPack = launcherIntegration;
             instance.generalSettings.detectMultiMCManifest = launcherIntegration;
 
+            int entryCount = 0;
             final boolean areOverridesEnabled = conf.get("dimension_overrides.enabled");
             final Object dimensionList = conf.get("dimension_overrides.dimensions");
             if (dimensionList instanceof List<?> dimensions) {
@@ -198,6 +209,7 @@ public class HypherConverter implements DataMigrator {
                             final ModuleData data = new ModuleData()
                                     .setData(convertPresenceData(target, areOverridesEnabled, true));
                             (isBiome ? instance.biomeSettings.biomeData : instance.dimensionSettings.dimensionData).put(name, data);
+                            entryCount++;
                         }
                     }
                 }
@@ -213,6 +225,7 @@ public class HypherConverter implements DataMigrator {
                             String value = entry.get("value").toString();
 
                             instance.displaySettings.dynamicVariables.put(name, processPlaceholder(value));
+                            entryCount++;
                         }
                     }
                 }
@@ -281,30 +294,45 @@ public class HypherConverter implements DataMigrator {
                 instance.displaySettings.presenceData = convertPresenceData(genericEvent);
             }
 
-            instance.save();
+            logTimings(configPath, entryCount, fileStart);
         }
 
         // Server Entries Conversion
         final File serverEntriesFile = new File(serverEntriesPath);
         if (serverEntriesFile.exists()) {
             try (FileConfig conf = FileConfig.of(serverEntriesFile)) {
+                final long fileStart = System.nanoTime();
                 conf.load();
                 serverEntryVersion = conf.get("version");
                 Constants.LOG.debugInfo("Server Entries file found (Version: %d, File Version: %d), interpreting data...", serverEntryVersion, fileVersion);
 
+                int entryCount = 0;
                 final boolean areOverridesEnabled = conf.get("enabled");
                 if (conf.get("entry") instanceof List<?> entries) {
+                    final List<Pair<String, AbstractConfig>> targets = StringUtils.newArrayList();
                     for (Object entryObj : entries) {
                         if (entryObj instanceof AbstractConfig entry) {
                             final AbstractConfig target = getPresenceEntry(entry);
                             if (target != null) {
-                                instance.serverSettings.serverData.put(entry.get("ip"), new ModuleData()
-                                        .setData(convertPresenceData(target, areOverridesEnabled, true)));
+                                targets.add(new Pair<>(entry.get("ip"), target));
                             }
                         }
                     }
+
+                    // Entries are independent, so convert them in parallel for larger lists,
+                    // merging the results in file order so that later entries still take priority
+                    final Stream<Pair<String, AbstractConfig>> targetStream = targets.size() >= PARALLEL_THRESHOLD ?
+                            targets.parallelStream() : targets.stream();
+                    final List<PresenceData> results = targetStream
+                            .map(target -> convertPresenceData(target.getSecond(), areOverridesEnabled, true))
+                            .collect(Collectors.toList());
+                    for (int i = 0; i < targets.size(); i++) {
+                        instance.serverSettings.serverData.put(targets.get(i).getFirst(), new ModuleData()
+                                .setData(results.get(i)));
+                    }
+                    entryCount = targets.size();
                 }
-                instance.save();
+                logTimings(serverEntriesFile.getPath(), entryCount, fileStart);
             }
         }
 
@@ -312,49 +340,55 @@ public class HypherConverter implements DataMigrator {
         final File replayModFile = new File(replayModPath);
         if (replayModFile.exists()) {
             try (FileConfig conf = FileConfig.of(replayModFile)) {
+                final long fileStart = System.nanoTime();
                 conf.load();
                 replayModVersion = conf.get("general.version");
                 Constants.LOG.debugInfo("Replay Mod Integration file found (Version: %d, File Version: %d), interpreting data...", replayModVersion, fileVersion);
 
                 instance.advancedSettings.enablePerGui = true;
 
+                int entryCount = 0;
                 final AbstractConfig replayViewerEvent = getPresenceEntry(conf.get("replay_viewer"));
                 if (replayViewerEvent != null) {
                     instance.advancedSettings.guiSettings.guiData.put("GuiReplayViewer", new ModuleData()
                             .setData(convertPresenceData(replayViewerEvent)));
+                    entryCount++;
                 }
 
                 final AbstractConfig replayEditorEvent = getPresenceEntry(conf.get("replay_editor"));
                 if (replayEditorEvent != null) {
                     instance.advancedSettings.guiSettings.guiData.put("GuiReplayOverlay", new ModuleData()
                             .setData(convertPresenceData(replayEditorEvent)));
+                    entryCount++;
                 }
 
                 final AbstractConfig replayRenderEvent = getPresenceEntry(conf.get("replay_render"));
                 if (replayRenderEvent != null) {
                     instance.advancedSettings.guiSettings.guiData.put("GuiVideoRenderer", new ModuleData()
                             .setData(convertPresenceData(replayRenderEvent)));
+                    entryCount++;
                 }
-
-                instance.save();
+                logTimings(replayModFile.getPath(), entryCount, fileStart);
             }
         }
 
+        instance.save();
+        Constants.LOG.debugInfo("Simple RPC migration finished in %d ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - migrationStart));
+
         Constants.LOG.info("Migration complete, thanks for using our mods! ~~ CDAGaming and HypherionSA");
         return instance;
     }
 
+    private void logTimings(final String path, final int entryCount, final long startTime) {
+        Constants.LOG.debugInfo("Converted %d entries from \"%s\" in %d ms", entryCount, path, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
     private String processPlaceholder(final String original, final boolean addMetadata) {
         String result = original;
         if (addMetadata) {
             result = "'" + original + "'";
         }
-        if (!StringUtils.isNullOrEmpty(result)) {
-            for (Map.Entry<String, String> entry : (isActive(ConfigFlag.USE_MULTI_RPC) ? placeholderMappingsV2 : placeholderMappings).entrySet()) {
-                result = result.replace(entry.getKey(), entry.getValue());
-            }
-        }
-        return result;
+        return (isActive(ConfigFlag.USE_MULTI_RPC) ? placeholderReplacerV2 : placeholderReplacer).replace(result);
     }
 
     private String processPlaceholder(final String original) {
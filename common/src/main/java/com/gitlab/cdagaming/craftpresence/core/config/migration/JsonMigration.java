@@ -0,0 +1,192 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.core.config.migration;
+
+import com.gitlab.cdagaming.craftpresence.core.Constants;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * A pipeline of transforms over a raw json tree, fused into a single traversal
+ * <p>
+ * Transforms are applied in the order they were added, with root transforms running
+ * before the traversal, object transforms running before an object's members are visited,
+ * and string transforms running on each string value in turn
+ *
+ * @author CDAGaming
+ */
+public class JsonMigration {
+    /**
+     * The transforms to apply to the root object, before traversal
+     */
+    private final List<Consumer<JsonObject>> rootTransforms = StringUtils.newArrayList();
+    /**
+     * The transforms to apply to each object, as its path and value
+     */
+    private final List<BiConsumer<List<String>, JsonObject>> objectTransforms = StringUtils.newArrayList();
+    /**
+     * The transforms to apply to each string value, as its path and value
+     */
+    private final List<BiFunction<List<String>, String, String>> stringTransforms = StringUtils.newArrayList();
+
+    /**
+     * Retrieve the child object at the specified path, if present
+     *
+     * @param root The object to begin from
+     * @param path The member names to follow
+     * @return the child object, or null if not found
+     */
+    public static JsonObject getObject(final JsonObject root, final String... path) {
+        JsonObject current = root;
+        for (String name : path) {
+            if (current == null) {
+                return null;
+            }
+            final JsonElement child = current.get(name);
+            current = child != null && child.isJsonObject() ? child.getAsJsonObject() : null;
+        }
+        return current;
+    }
+
+    /**
+     * Adds a transform to apply to the root object, before traversal
+     *
+     * @param transform The transform to add
+     * @return the current {@link JsonMigration} instance
+     */
+    public JsonMigration onRoot(final Consumer<JsonObject> transform) {
+        rootTransforms.add(transform);
+        return this;
+    }
+
+    /**
+     * Adds a transform to apply to each object, before its members are visited
+     * <p>
+     * The supplied path is reused during traversal, and should not be retained
+     *
+     * @param transform The transform to add, as the object path and value
+     * @return the current {@link JsonMigration} instance
+     */
+    public JsonMigration onObject(final BiConsumer<List<String>, JsonObject> transform) {
+        objectTransforms.add(transform);
+        return this;
+    }
+
+    /**
+     * Adds a transform to apply to each string value
+     * <p>
+     * The supplied path is reused during traversal, and should not be retained
+     *
+     * @param transform The transform to add, as the value path and value, returning the new value
+     * @return the current {@link JsonMigration} instance
+     */
+    public JsonMigration onString(final BiFunction<List<String>, String, String> transform) {
+        stringTransforms.add(transform);
+        return this;
+    }
+
+    /**
+     * Determine whether this pipeline has no transforms to apply
+     *
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean isEmpty() {
+        return rootTransforms.isEmpty() && objectTransforms.isEmpty() && stringTransforms.isEmpty();
+    }
+
+    /**
+     * Apply all transforms to the specified json tree, modifying it in place
+     *
+     * @param rawJson The json tree to interpret
+     * @return the modified json tree
+     */
+    public JsonElement apply(final JsonElement rawJson) {
+        if (rawJson != null && rawJson.isJsonObject() && !isEmpty()) {
+            final JsonObject root = rawJson.getAsJsonObject();
+            for (Consumer<JsonObject> transform : rootTransforms) {
+                transform.accept(root);
+            }
+            if (!objectTransforms.isEmpty() || !stringTransforms.isEmpty()) {
+                visit(root, StringUtils.newArrayList());
+            }
+        }
+        return rawJson;
+    }
+
+    /**
+     * Visit the specified json element and its children, applying transforms as needed
+     *
+     * @param element The json element to interpret
+     * @param path    The path leading to this element
+     * @return the resulting json element
+     */
+    private JsonElement visit(final JsonElement element, final List<String> path) {
+        if (element.isJsonObject()) {
+            final JsonObject object = element.getAsJsonObject();
+            for (BiConsumer<List<String>, JsonObject> transform : objectTransforms) {
+                transform.accept(path, object);
+            }
+            for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+                path.add(entry.getKey());
+                final JsonElement result = visit(entry.getValue(), path);
+                if (result != entry.getValue()) {
+                    entry.setValue(result);
+                }
+                path.removeLast();
+            }
+        } else if (element.isJsonArray()) {
+            final JsonArray array = element.getAsJsonArray();
+            for (int i = 0; i < array.size(); i++) {
+                path.add(Integer.toString(i));
+                final JsonElement result = visit(array.get(i), path);
+                if (result != array.get(i)) {
+                    array.set(i, result);
+                }
+                path.removeLast();
+            }
+        } else if (element.isJsonPrimitive() && element.getAsJsonPrimitive().isString() && !stringTransforms.isEmpty()) {
+            final String original = element.getAsString();
+            String result = original;
+            for (BiFunction<List<String>, String, String> transform : stringTransforms) {
+                result = transform.apply(path, result);
+            }
+            if (!result.equals(original)) {
+                Constants.LOG.debugInfo("Modified property \"%s\": \"%s\" => \"%s\"", String.join(".", path), original, result);
+                return new JsonPrimitive(result);
+            }
+        }
+        return element;
+    }
+}
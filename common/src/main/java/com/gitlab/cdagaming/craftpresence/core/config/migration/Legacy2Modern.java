@@ -28,6 +28,7 @@ import com.gitlab.cdagaming.craftpresence.core.Constants;
 import com.gitlab.cdagaming.craftpresence.core.config.Config;
 import com.gitlab.cdagaming.craftpresence.core.config.element.Button;
 import com.gitlab.cdagaming.craftpresence.core.config.element.ModuleData;
+import com.gitlab.cdagaming.craftpresence.core.impl.ReplacementAutomaton;
 import com.google.gson.JsonElement;
 import io.github.cdagaming.unicore.impl.HashMapBuilder;
 import io.github.cdagaming.unicore.impl.Pair;
@@ -40,6 +41,7 @@ import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -77,6 +79,8 @@ public class Legacy2Modern implements DataMigrator {
     private final Predicate<String> IS_WORLD_DATA_PLACEHOLDER = (e) -> e.equalsIgnoreCase("worldDataPlaceholder");
     private final Predicate<String> IS_PLAYER_ITEMS_PLACEHOLDER = (e) -> e.equalsIgnoreCase("playerItemsPlaceholder");
 
+    // (argumentType:originalName) -> replacer for the applicable placeholderMappings
+    private final Map<String, ReplacementAutomaton> placeholderReplacers = StringUtils.newHashMap();
     // oldName -> newName:replaceCondition
     private final List<Tuple<Pair<String, String>, Predicate<String>, Predicate<String>>> placeholderMappings = Arrays.asList(
             generatePair("&DEFAULT&", "{general.icon}", IS_ICON),
@@ -350,6 +354,7 @@ public class Legacy2Modern implements DataMigrator {
             Constants.LOG.debugError(ex);
         } finally {
             String originalName, newName;
+            String[] newPath;
             Object originalValue, currentValue, newValue;
             Class<?> expectedClass;
 
@@ -358,8 +363,9 @@ public class Legacy2Modern implements DataMigrator {
                 originalName = StringUtils.formatToCamel(property);
                 if (!excludedOptions.contains(originalName)) {
                     newName = configNameMappings.getOrDefault(originalName, originalName);
+                    newPath = newName.split("\\.");
                     originalValue = properties.get(property);
-                    newValue = currentValue = instance.getProperty(newName);
+                    newValue = currentValue = instance.findProperty(newPath);
 
                     if (currentValue != null) {
                         expectedClass = currentValue.getClass();
@@ -435,7 +441,7 @@ public class Legacy2Modern implements DataMigrator {
 
                         if (!currentValue.equals(newValue)) {
                             Constants.LOG.debugInfo("Migrating modified legacy property " + originalName + " to JSON property " + newName);
-                            instance.setProperty(newName, newValue);
+                            instance.setProperty(newValue, newPath);
                         }
                     }
                 }
@@ -452,19 +458,9 @@ public class Legacy2Modern implements DataMigrator {
     }
 
     private String process(final String input, final String originalName, final String argumentType) {
-        String result = input;
-
-        for (Tuple<Pair<String, String>, Predicate<String>, Predicate<String>> entry : placeholderMappings) {
-            final Pair<String, String> replacer = entry.getFirst();
-            final String original = replacer.getFirst();
-            final String newValue = replacer.getSecond();
-            final Predicate<String> typeCheck = entry.getSecond();
-            final Predicate<String> optionCheck = entry.getThird();
-            if (typeCheck.test(argumentType) && optionCheck.test(originalName) && result.toLowerCase().contains(original.toLowerCase())) {
-                Constants.LOG.debugInfo("Replacing statement in property \"%1$s\" (%2$s): \"%3$s\" => \"%4$s\"", originalName, argumentType, original, newValue);
-                result = result.replace(original, newValue); // v1 Placeholders were case-insensitive
-            }
-        }
+        String result = getReplacer(originalName, argumentType).replace(input, (original, newValue) ->
+                Constants.LOG.debugInfo("Replacing statement in property \"%1$s\" (%2$s): \"%3$s\" => \"%4$s\"", originalName, argumentType, original, newValue)
+        );
 
         final List<String> operatorMatches = StringUtils.getMatches(OPERATOR_PATTERN, result);
         if (!operatorMatches.isEmpty()) {
@@ -480,6 +476,19 @@ public class Legacy2Modern implements DataMigrator {
         return result;
     }
 
+    private ReplacementAutomaton getReplacer(final String originalName, final String argumentType) {
+        return placeholderReplacers.computeIfAbsent(argumentType + ":" + originalName, key -> {
+            // Earlier mappings take priority over later ones for the same placeholder
+            final Map<String, String> replacers = new LinkedHashMap<>();
+            for (Tuple<Pair<String, String>, Predicate<String>, Predicate<String>> entry : placeholderMappings) {
+                if (entry.getSecond().test(argumentType) && entry.getThird().test(originalName)) {
+                    replacers.putIfAbsent(entry.getFirst().getFirst(), entry.getFirst().getSecond());
+                }
+            }
+            return new ReplacementAutomaton(replacers);
+        });
+    }
+
     private Tuple<Pair<String, String>, Predicate<String>, Predicate<String>> generatePair(final String original, final String name, final Predicate<String> typeCheck, final Predicate<String> optionCheck) {
         return new Tuple<>(new Pair<>(original, name), typeCheck, optionCheck);
     }
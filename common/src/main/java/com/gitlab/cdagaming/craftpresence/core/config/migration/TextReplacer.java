@@ -26,113 +26,74 @@ package com.gitlab.cdagaming.craftpresence.core.config.migration;
 
 import com.gitlab.cdagaming.craftpresence.core.Constants;
 import com.gitlab.cdagaming.craftpresence.core.config.Config;
-import com.gitlab.cdagaming.craftpresence.core.config.Module;
+import com.gitlab.cdagaming.craftpresence.core.impl.ReplacementAutomaton;
 import com.google.gson.JsonElement;
 import io.github.cdagaming.unicore.utils.StringUtils;
 
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class TextReplacer implements DataMigrator {
     private static final Pattern EXPR_PATTERN = Pattern.compile("\\{[^{}]*}");
 
     final Map<String, String> replacers;
+    final ReplacementAutomaton automaton;
     final boolean placeholderMode;
 
     public TextReplacer(final Map<String, String> replacers, final boolean placeholderMode) {
         this.replacers = StringUtils.newHashMap(replacers);
+        this.automaton = new ReplacementAutomaton(replacers);
         this.placeholderMode = placeholderMode;
     }
 
     @Override
     public Config apply(Config instance, JsonElement rawJson, Object... args) {
-        processElement(instance, rawJson);
+        // Only the matching properties of the instance are modified, leaving the raw json as-is
+        new JsonMigration().onString((path, value) -> {
+            if (Config.isModuleProperty(path)) {
+                final String[] pathData = path.toArray(new String[0]);
+                if (instance.findProperty(pathData) instanceof String originalResult) {
+                    final String processResult = process(originalResult);
+                    if (!processResult.equals(originalResult)) {
+                        Constants.LOG.debugInfo("Modified property \"%s\": \"%s\" => \"%s\"", String.join(".", path), originalResult, processResult);
+                        instance.setProperty((Object) processResult, pathData);
+                    }
+                }
+            }
+            return value;
+        }).apply(rawJson);
         return instance;
     }
 
-    private String doReplacement(final String match, final Map<String, String> replacers) {
-        String result = match;
-        if (!StringUtils.isNullOrEmpty(match) && !replacers.isEmpty()) {
-            for (Map.Entry<String, String> entry : replacers.entrySet()) {
-                result = result.replace(entry.getKey(), entry.getValue());
-            }
-        }
-        return result;
+    public String processProperty(final List<String> path, final String original) {
+        return Config.isModuleProperty(path) ? process(original) : original;
     }
 
-    private String processReplacement(final String original) {
-        String result = original;
-        if (placeholderMode) {
-            final List<String> expressions = StringUtils.getMatches(EXPR_PATTERN, original);
-            if (!expressions.isEmpty()) {
-                for (String match : expressions) {
-                    result = result.replace(match,
-                            doReplacement(match, replacers)
-                    );
-                }
-            }
-        } else {
-            result = doReplacement(result, replacers);
+    public String process(final String original) {
+        if (StringUtils.isNullOrEmpty(original) || automaton.isEmpty()) {
+            return original;
         }
-        return result;
-    }
 
-    // Cloned from Config#handleVerification
-    private JsonElement processElement(final Config instance, final JsonElement rawJson, final String... path) {
-        // Verify Type Safety, reset value if anything is null or invalid for it's type
-        String pathPrefix = String.join(".", path);
-        if (!StringUtils.isNullOrEmpty(pathPrefix)) {
-            pathPrefix += ".";
-        }
-
-        if (rawJson != null) {
-            for (Map.Entry<String, JsonElement> entry : rawJson.getAsJsonObject().entrySet()) {
-                final String rawName = pathPrefix + entry.getKey();
-                final List<String> configPath = StringUtils.newArrayList(path);
-                configPath.add(entry.getKey());
-                final String[] pathData = configPath.toArray(new String[0]);
-
-                Object defaultValue = instance.getDefaults().findProperty(pathData);
-                Object currentValue = instance.findProperty(pathData);
-                boolean shouldContinue = true;
-
-                if (defaultValue == null) {
-                    if (currentValue == null) {
-                        shouldContinue = false;
-                    } else {
-                        defaultValue = currentValue;
-                    }
-                }
-
-                if (shouldContinue) {
-                    if (Module.class.isAssignableFrom(defaultValue.getClass())) {
-                        final List<String> paths = StringUtils.newArrayList(path);
-                        paths.add(entry.getKey());
-                        processElement(instance, entry.getValue(), paths.toArray(new String[0]));
-                    } else if (currentValue instanceof String originalResult) {
-                        final String processResult = processReplacement(originalResult);
-                        if (!processResult.equals(originalResult)) {
-                            Constants.LOG.debugInfo("Modified property \"%s\": \"%s\" => \"%s\"", rawName, originalResult, processResult);
-                            instance.setProperty((Object) processResult, pathData);
-                        }
-                    } else if (currentValue instanceof Map<?, ?> map) {
-                        final Map<Object, Object> newData = StringUtils.newHashMap(map);
-                        if (entry.getValue().isJsonObject()) {
-                            for (Object dataEntry : newData.keySet()) {
-                                final List<String> paths = StringUtils.newArrayList(path);
-                                paths.add(entry.getKey());
-                                paths.add(dataEntry.toString());
-                                final JsonElement dataValue = entry.getValue().getAsJsonObject().get(dataEntry.toString());
-                                if (dataValue.isJsonObject()) {
-                                    processElement(instance, dataValue, paths.toArray(new String[0]));
-                                }
-                            }
-                        }
+        if (placeholderMode) {
+            final Matcher matcher = EXPR_PATTERN.matcher(original);
+            StringBuilder result = null;
+            int copied = 0;
+            while (matcher.find()) {
+                final String match = matcher.group();
+                final String replacement = automaton.replace(match);
+                if (!replacement.equals(match)) {
+                    if (result == null) {
+                        result = new StringBuilder(original.length());
                     }
+                    result.append(original, copied, matcher.start()).append(replacement);
+                    copied = matcher.end();
                 }
             }
+            return result != null ? result.append(original, copied, original.length()).toString() : original;
+        } else {
+            return automaton.replace(original);
         }
-        return rawJson;
     }
 }
@@ -0,0 +1,157 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.core.impl;
+
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A trie of domain name patterns, indexed by their labels in reverse order
+ * <p>
+ * Supports exact patterns (`example.net`) and wildcard patterns (`*.example.net`),
+ * where a wildcard matches one or more leading labels. Lookups take time proportional
+ * to the length of the host, with the most specific pattern taking priority
+ *
+ * @param <V> The value type attached to each pattern
+ * @author CDAGaming
+ */
+public class DomainTrie<V> {
+    /**
+     * The wildcard prefix for patterns
+     */
+    public static final String WILDCARD_PREFIX = "*.";
+    /**
+     * The root node of this trie
+     */
+    private final Node<V> root = new Node<>();
+    /**
+     * The amount of patterns in this trie
+     */
+    private int size = 0;
+
+    /**
+     * Determine whether the specified key is a wildcard pattern
+     *
+     * @param key The key to interpret
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public static boolean isPattern(final String key) {
+        return !StringUtils.isNullOrEmpty(key) && key.startsWith(WILDCARD_PREFIX) &&
+                key.length() > WILDCARD_PREFIX.length();
+    }
+
+    /**
+     * Attaches a value to the specified domain pattern
+     *
+     * @param pattern The domain pattern to interpret
+     * @param value   The value to attach
+     */
+    public void put(final String pattern, final V value) {
+        if (StringUtils.isNullOrEmpty(pattern)) {
+            return;
+        }
+
+        final boolean isWildcard = isPattern(pattern);
+        final String domain = (isWildcard ? pattern.substring(WILDCARD_PREFIX.length()) : pattern).toLowerCase(Locale.ROOT);
+        final String[] labels = domain.split("\\.");
+
+        Node<V> node = root;
+        for (int i = labels.length - 1; i >= 0; i--) {
+            node = node.children.computeIfAbsent(labels[i], key -> new Node<>());
+        }
+        if (isWildcard) {
+            node.wildcardValue = value;
+        } else {
+            node.exactValue = value;
+        }
+        size++;
+    }
+
+    /**
+     * Retrieves the value attached to the most specific pattern matching the specified host
+     *
+     * @param host The host name to interpret
+     * @return the matching value, or null if none found
+     */
+    public V get(final String host) {
+        if (StringUtils.isNullOrEmpty(host) || size == 0) {
+            return null;
+        }
+
+        final String domain = host.toLowerCase(Locale.ROOT);
+        V result = null;
+        Node<V> node = root;
+        int end = domain.length();
+        while (end > 0) {
+            final int start = domain.lastIndexOf('.', end - 1) + 1;
+            final Node<V> child = node.children.get(domain.substring(start, end));
+            if (child == null) {
+                return result;
+            }
+            node = child;
+
+            if (start > 0 && node.wildcardValue != null) {
+                // Labels remain before this node, so its wildcard applies
+                result = node.wildcardValue;
+            } else if (start == 0 && node.exactValue != null) {
+                return node.exactValue;
+            }
+            end = start - 1;
+        }
+        return result;
+    }
+
+    /**
+     * Retrieves the amount of patterns in this trie
+     *
+     * @return the amount of patterns
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * A single label within a {@link DomainTrie}
+     *
+     * @param <V> The value type attached to each pattern
+     */
+    private static final class Node<V> {
+        /**
+         * The child labels of this node
+         */
+        private final Map<String, Node<V>> children = StringUtils.newHashMap();
+        /**
+         * The value attached to this exact domain, if any
+         */
+        private V exactValue;
+        /**
+         * The value attached to any subdomains of this domain, if any
+         */
+        private V wildcardValue;
+    }
+}
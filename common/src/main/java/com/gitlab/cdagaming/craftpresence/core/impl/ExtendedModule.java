@@ -24,9 +24,12 @@
 
 package com.gitlab.cdagaming.craftpresence.core.impl;
 
+import com.gitlab.cdagaming.craftpresence.core.config.ConfigChange;
 import com.gitlab.cdagaming.craftpresence.core.config.element.ModuleData;
 import com.gitlab.cdagaming.craftpresence.core.config.element.PresenceData;
 
+import java.util.List;
+
 /**
  * Module Section defining properties to be used for Rich Presence Displays
  * <p>This implementation features integration with {@link ModuleData} and {@link PresenceData}
@@ -44,6 +47,19 @@ public interface ExtendedModule extends Module {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Clears any cached {@link ModuleData} resolved by this module
+     */
+    default void invalidateData() {
+        // N/A
+    }
+
+    @Override
+    default void onConfigChange(final List<ConfigChange> changes) {
+        invalidateData();
+        Module.super.onConfigChange(changes);
+    }
+
     /**
      * Retrieve the default identifier for this module
      *
@@ -0,0 +1,234 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.core.impl;
+
+import com.gitlab.cdagaming.craftpresence.core.Constants;
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A bounded, time-limited cache of remotely fetched text
+ * <p>
+ * Lookups never block on a fetch: missing entries are fetched in the background,
+ * and expired entries continue to be served while they are revalidated (Stale-While-Revalidate).
+ * Concurrent requests for the same source share a single in-flight fetch
+ *
+ * @author CDAGaming
+ */
+public class FetchCache {
+    /**
+     * The function used to fetch text for a source
+     */
+    private final Fetcher fetcher;
+    /**
+     * The default time an entry remains fresh for, in milliseconds
+     */
+    private final long timeToLive;
+    /**
+     * The fetched entries, indexed by their source
+     */
+    private final LruCache<String, Entry> entries;
+    /**
+     * The fetches currently in progress, indexed by their source
+     */
+    private final Map<String, CompletableFuture<Entry>> inFlight = StringUtils.newConcurrentHashMap();
+    /**
+     * The maximum amount of concurrent fetches
+     */
+    private final int threads;
+    /**
+     * The executor used to run fetches, created on the first fetch
+     */
+    private ExecutorService executor;
+
+    /**
+     * Initializes a new fetch cache
+     *
+     * @param fetcher    The function used to fetch text for a source
+     * @param timeToLive The default time an entry remains fresh for, in milliseconds
+     * @param maxSize    The maximum amount of entries to retain
+     * @param threads    The maximum amount of concurrent fetches
+     */
+    public FetchCache(final Fetcher fetcher, final long timeToLive, final int maxSize, final int threads) {
+        this.fetcher = fetcher;
+        this.timeToLive = timeToLive;
+        this.entries = new LruCache<>(maxSize);
+        this.threads = threads;
+    }
+
+    /**
+     * Retrieve the cached entry for the specified source, without blocking
+     * <p>
+     * A background fetch is started if the entry is missing or expired
+     *
+     * @param source     The source to interpret
+     * @param timeToLive The time a newly fetched entry remains fresh for, in milliseconds
+     * @return the cached entry, or null if the first fetch is still pending
+     */
+    public Entry get(final String source, final long timeToLive) {
+        final Entry entry = entries.get(source);
+        if (entry == null || entry.isExpired()) {
+            refresh(source, timeToLive);
+        }
+        return entry;
+    }
+
+    /**
+     * Retrieve the cached entry for the specified source, without blocking
+     * <p>
+     * A background fetch is started if the entry is missing or expired
+     *
+     * @param source The source to interpret
+     * @return the cached entry, or null if the first fetch is still pending
+     */
+    public Entry get(final String source) {
+        return get(source, timeToLive);
+    }
+
+    /**
+     * Start a background fetch for the specified source, unless one is already in progress
+     *
+     * @param source The source to interpret
+     * @return the pending fetch result
+     */
+    public CompletableFuture<Entry> refresh(final String source) {
+        return refresh(source, timeToLive);
+    }
+
+    /**
+     * Start a background fetch for the specified source, unless one is already in progress
+     * <p>
+     * If a fetch is already in progress, it is shared as-is, keeping the time to live it was started with
+     *
+     * @param source     The source to interpret
+     * @param timeToLive The time the fetched entry remains fresh for, in milliseconds
+     * @return the pending fetch result
+     */
+    public CompletableFuture<Entry> refresh(final String source, final long timeToLive) {
+        final CompletableFuture<Entry> task = new CompletableFuture<>();
+        final CompletableFuture<Entry> existing = inFlight.putIfAbsent(source, task);
+        if (existing != null) {
+            return existing;
+        }
+
+        execute(() -> {
+            Entry result;
+            try {
+                result = new Entry(fetcher.fetch(source), null, System.currentTimeMillis() + timeToLive);
+            } catch (Throwable ex) {
+                Constants.LOG.debugError(ex);
+                // Retain the previous value on failure, and retry once it expires again
+                final Entry previous = entries.get(source);
+                result = new Entry(previous != null ? previous.value() : null, ex, System.currentTimeMillis() + timeToLive);
+            }
+            entries.put(source, result);
+            inFlight.remove(source, task);
+            task.complete(result);
+        });
+        return task;
+    }
+
+    /**
+     * Remove all cached entries
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Run the specified fetch in the background, creating the executor if needed
+     *
+     * @param task The fetch to run
+     */
+    private synchronized void execute(final Runnable task) {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(threads, Constants.getThreadFactory());
+        }
+        executor.execute(task);
+    }
+
+    /**
+     * Stop the executor used to run fetches, cancelling any fetches in progress
+     * <p>
+     * A new executor is created if further fetches are requested
+     */
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        for (CompletableFuture<Entry> task : inFlight.values()) {
+            task.cancel(true);
+        }
+        inFlight.clear();
+    }
+
+    /**
+     * A function used to fetch text for a source
+     */
+    @FunctionalInterface
+    public interface Fetcher {
+        /**
+         * Fetch the text for the specified source
+         *
+         * @param source The source to interpret
+         * @return the fetched text
+         * @throws Exception If the text is unable to be fetched
+         */
+        String fetch(final String source) throws Exception;
+    }
+
+    /**
+     * A cached fetch result
+     *
+     * @param value     The fetched text, or the last successful text if the latest fetch failed
+     * @param error     The error from the latest fetch, if any
+     * @param expiresAt The time this entry expires at, in epoch milliseconds
+     */
+    public record Entry(String value, Throwable error, long expiresAt) {
+        /**
+         * Determine whether this entry needs to be revalidated
+         *
+         * @return {@link Boolean#TRUE} if condition is satisfied
+         */
+        public boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+
+        /**
+         * Determine whether this entry has a value to use
+         *
+         * @return {@link Boolean#TRUE} if condition is satisfied
+         */
+        public boolean hasValue() {
+            return value != null;
+        }
+    }
+}
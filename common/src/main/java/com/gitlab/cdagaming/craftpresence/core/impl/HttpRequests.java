@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.core.impl;
+
+import com.gitlab.cdagaming.craftpresence.core.Constants;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.Charset;
+import java.util.Map;
+
+/**
+ * Utilities for issuing http requests that require custom request headers
+ * <p>
+ * {@link io.github.cdagaming.unicore.utils.UrlUtils} does not expose its connections,
+ * so requests needing conditional or ranged headers are opened here instead,
+ * using the same connection setup: the default proxy selection, a mod user agent, and bounded timeouts
+ *
+ * @author CDAGaming
+ */
+public class HttpRequests {
+    /**
+     * The user agent to identify requests with
+     */
+    public static final String USER_AGENT = Constants.NAME + "/" + Constants.VERSION_ID;
+    /**
+     * The maximum time to wait while connecting or reading, in milliseconds
+     */
+    public static final int TIMEOUT = 10000;
+
+    /**
+     * Opens an http connection to the specified url, with the specified request headers
+     *
+     * @param url     The url to connect to
+     * @param headers The request headers to send, if any
+     * @return the opened connection, not yet connected
+     * @throws IOException If the url is not an http url, or the connection is unable to be opened
+     */
+    public static HttpURLConnection openConnection(final String url, final Map<String, String> headers) throws IOException {
+        final URLConnection connection = new URL(url).openConnection();
+        if (!(connection instanceof HttpURLConnection httpConnection)) {
+            throw new IOException("Unsupported protocol for " + url);
+        }
+        httpConnection.setConnectTimeout(TIMEOUT);
+        httpConnection.setReadTimeout(TIMEOUT);
+        httpConnection.setRequestProperty("User-Agent", USER_AGENT);
+        if (headers != null) {
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                httpConnection.setRequestProperty(header.getKey(), header.getValue());
+            }
+        }
+        return httpConnection;
+    }
+
+    /**
+     * Reads the response body of the specified connection as text
+     *
+     * @param connection The connection to read from
+     * @param encoding   The encoding to decode the response with
+     * @return the response body, as text
+     * @throws IOException If the response is unable to be read
+     */
+    public static String readText(final HttpURLConnection connection, final String encoding) throws IOException {
+        try (InputStream stream = connection.getInputStream()) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            stream.transferTo(out);
+            return out.toString(Charset.forName(encoding));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.core.impl;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import io.github.cdagaming.unicore.impl.Pair;
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.util.List;
+
+/**
+ * A compiled path into a json tree, made up of member names and array indexes
+ * <p>
+ * Each step is interpreted as a member name when applied to an object,
+ * and as an index when applied to an array, so that paths can be compiled once and reused.
+ * Missing members and invalid indexes are treated as errors
+ *
+ * @author CDAGaming
+ */
+public class JsonPath {
+    /**
+     * The member names for each step of this path
+     */
+    private final String[] names;
+    /**
+     * The array indexes for each step of this path, or -1 if not a valid index
+     */
+    private final int[] indexes;
+
+    /**
+     * Initializes a new path from the specified steps
+     *
+     * @param parts The steps to interpret, in order
+     */
+    private JsonPath(final List<String> parts) {
+        this.names = parts.toArray(new String[0]);
+        this.indexes = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            final Pair<Boolean, Integer> index = StringUtils.getValidInteger(names[i]);
+            indexes[i] = index.getFirst() ? index.getSecond() : -1;
+        }
+    }
+
+    /**
+     * Compile the specified steps into a reusable path
+     *
+     * @param parts The steps to interpret, in order
+     * @return the compiled path
+     */
+    public static JsonPath compile(final List<String> parts) {
+        return new JsonPath(parts);
+    }
+
+    /**
+     * Retrieve the element at this path, starting from the specified element
+     * <p>
+     * If a primitive or null value is reached before the path ends, that value is returned
+     *
+     * @param root The element to begin from
+     * @return the resulting element
+     * @throws IllegalArgumentException If a member is missing, or an index is invalid or out of range
+     */
+    public JsonElement resolve(final JsonElement root) {
+        JsonElement current = root;
+        for (int i = 0; i < names.length; i++) {
+            if (current == null || current.isJsonNull() || current.isJsonPrimitive()) {
+                return current;
+            } else if (current.isJsonObject()) {
+                current = current.getAsJsonObject().get(names[i]);
+                if (current == null) {
+                    throw new IllegalArgumentException("Missing member: " + names[i]);
+                }
+            } else if (current.isJsonArray()) {
+                final JsonArray array = current.getAsJsonArray();
+                if (indexes[i] < 0 || indexes[i] >= array.size()) {
+                    throw new IllegalArgumentException("Invalid array index: " + names[i]);
+                }
+                current = array.get(indexes[i]);
+            }
+        }
+        return current;
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.core.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A thread-safe, size-bounded cache with least-recently-used eviction
+ * <p>
+ * Lookups are lock-free, recording their access order through a shared counter,
+ * while only insertions that exceed the size limit take a lock to evict the eldest entry
+ * <p>
+ * Entries may be tagged with a data version, in which case a version change
+ * invalidates every entry at once by replacing the backing storage
+ *
+ * @param <K> The key type for this cache
+ * @param <V> The value type for this cache
+ * @author CDAGaming
+ */
+public class LruCache<K, V> {
+    /**
+     * The maximum amount of entries to retain
+     */
+    private final int maxSize;
+    /**
+     * The counter used to order entry accesses
+     */
+    private final AtomicLong clock = new AtomicLong();
+    /**
+     * The lock used while evicting entries or replacing the backing storage
+     */
+    private final Object evictionLock = new Object();
+    /**
+     * The amount of lookups that found an entry
+     */
+    private final LongAdder hits = new LongAdder();
+    /**
+     * The amount of lookups that did not find an entry
+     */
+    private final LongAdder misses = new LongAdder();
+    /**
+     * The amount of entries removed to stay within the size limit
+     */
+    private final LongAdder evictions = new LongAdder();
+    /**
+     * The backing storage for this cache, alongside the data version it belongs to
+     */
+    private volatile Storage<K, V> storage;
+
+    /**
+     * Initializes a new cache with the specified size limit
+     *
+     * @param maxSize The maximum amount of entries to retain
+     */
+    public LruCache(final int maxSize) {
+        this.maxSize = maxSize;
+        this.storage = new Storage<>(0);
+    }
+
+    /**
+     * Retrieves the backing storage for the specified data version, replacing it if the version differs
+     *
+     * @param newVersion The current data version
+     * @return the backing storage for the specified data version
+     */
+    private Storage<K, V> syncVersion(final int newVersion) {
+        Storage<K, V> current = storage;
+        if (current.version != newVersion) {
+            synchronized (evictionLock) {
+                current = storage;
+                if (current.version != newVersion) {
+                    current = new Storage<>(newVersion);
+                    storage = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Retrieves the entry for the specified key from the specified storage, if present
+     *
+     * @param current The backing storage to interpret
+     * @param key     The key to interpret
+     * @return the cached value, or null if not present
+     */
+    private V get(final Storage<K, V> current, final K key) {
+        final Node<V> node = current.entries.get(key);
+        if (node != null) {
+            node.access = clock.incrementAndGet();
+            hits.increment();
+            return node.value;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Stores an entry for the specified key in the specified storage, evicting the eldest entries if needed
+     *
+     * @param current The backing storage to interpret
+     * @param key     The key to interpret
+     * @param value   The value to store
+     */
+    private void put(final Storage<K, V> current, final K key, final V value) {
+        current.entries.put(key, new Node<>(value, clock.incrementAndGet()));
+        evict(current);
+    }
+
+    /**
+     * Removes the least-recently-used entries from the specified storage, until within the size limit
+     *
+     * @param current The backing storage to interpret
+     */
+    private void evict(final Storage<K, V> current) {
+        if (current.entries.size() <= maxSize) {
+            return;
+        }
+        synchronized (evictionLock) {
+            while (current.entries.size() > maxSize) {
+                K eldestKey = null;
+                Node<V> eldest = null;
+                for (Map.Entry<K, Node<V>> entry : current.entries.entrySet()) {
+                    final Node<V> node = entry.getValue();
+                    if (eldest == null || node.access < eldest.access) {
+                        eldestKey = entry.getKey();
+                        eldest = node;
+                    }
+                }
+                if (eldest == null) {
+                    break;
+                }
+                if (current.entries.remove(eldestKey, eldest)) {
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves the entry for the specified key, if present
+     *
+     * @param key The key to interpret
+     * @return the cached value, or null if not present
+     */
+    public V get(final K key) {
+        return get(storage, key);
+    }
+
+    /**
+     * Retrieves the entry for the specified key, if present and matching the specified data version
+     *
+     * @param key        The key to interpret
+     * @param newVersion The current data version
+     * @return the cached value, or null if not present
+     */
+    public V get(final K key, final int newVersion) {
+        return get(syncVersion(newVersion), key);
+    }
+
+    /**
+     * Retrieves the entry for the specified key, creating and storing it if not present
+     * <p>
+     * Creation is atomic per key, so concurrent requests for the same key
+     * will always receive the same instance while it remains cached
+     *
+     * @param key             The key to interpret
+     * @param mappingFunction The function used to create a missing value
+     * @return the cached or newly created value
+     */
+    public V computeIfAbsent(final K key, final Function<? super K, ? extends V> mappingFunction) {
+        final Storage<K, V> current = storage;
+        V value = get(current, key);
+        if (value == null) {
+            final Node<V> node = current.entries.computeIfAbsent(key, k -> {
+                final V created = mappingFunction.apply(k);
+                return created != null ? new Node<>(created, clock.incrementAndGet()) : null;
+            });
+            if (node != null) {
+                value = node.value;
+                evict(current);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Stores an entry for the specified key
+     *
+     * @param key   The key to interpret
+     * @param value The value to store
+     */
+    public void put(final K key, final V value) {
+        put(storage, key, value);
+    }
+
+    /**
+     * Stores an entry for the specified key, if the specified data version is still current
+     * <p>
+     * Values computed against an outdated data version are discarded
+     *
+     * @param key        The key to interpret
+     * @param value      The value to store
+     * @param newVersion The data version the value was computed against
+     */
+    public void put(final K key, final V value, final int newVersion) {
+        final Storage<K, V> current = storage;
+        if (newVersion == current.version) {
+            put(current, key, value);
+        }
+    }
+
+    /**
+     * Removes the entry for the specified key, if present
+     *
+     * @param key The key to interpret
+     * @return the removed value, or null if not present
+     */
+    public V remove(final K key) {
+        final Node<V> node = storage.entries.remove(key);
+        return node != null ? node.value : null;
+    }
+
+    /**
+     * Removes all entries from this cache
+     */
+    public void clear() {
+        synchronized (evictionLock) {
+            storage = new Storage<>(storage.version);
+        }
+    }
+
+    /**
+     * Retrieves the current amount of entries
+     *
+     * @return the current amount of entries
+     */
+    public int size() {
+        return storage.entries.size();
+    }
+
+    /**
+     * Retrieves the amount of lookups that found an entry
+     *
+     * @return the amount of cache hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Retrieves the amount of lookups that did not find an entry
+     *
+     * @return the amount of cache misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Retrieves the amount of entries removed to stay within the size limit
+     *
+     * @return the amount of evictions
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Retrieves the ratio of lookups that found an entry
+     *
+     * @return the hit rate, between 0 and 1
+     */
+    public double getHitRate() {
+        final long hitCount = hits.sum();
+        final long total = hitCount + misses.sum();
+        return total > 0 ? (double) hitCount / total : 0.0D;
+    }
+
+    /**
+     * Prints Cache Statistics as a Readable String
+     *
+     * @return A readable version of this Cache's Statistics
+     */
+    @Override
+    public String toString() {
+        return "LruCache{" + "size=" + size() +
+                ", maxSize=" + maxSize +
+                ", hits=" + hits.sum() +
+                ", misses=" + misses.sum() +
+                ", evictions=" + evictions.sum() + '}';
+    }
+
+    /**
+     * The backing storage for a data version of this cache
+     *
+     * @param <K> The key type for this storage
+     * @param <V> The value type for this storage
+     */
+    private static final class Storage<K, V> {
+        /**
+         * The data version the entries belong to
+         */
+        private final int version;
+        /**
+         * The cached entries, indexed by key
+         */
+        private final Map<K, Node<V>> entries = new ConcurrentHashMap<>();
+
+        /**
+         * Initializes a new backing storage for the specified data version
+         *
+         * @param version The data version the entries belong to
+         */
+        Storage(final int version) {
+            this.version = version;
+        }
+    }
+
+    /**
+     * A cached value, alongside the order of its latest access
+     *
+     * @param <V> The value type for this entry
+     */
+    private static final class Node<V> {
+        /**
+         * The cached value
+         */
+        private final V value;
+        /**
+         * The order of the latest access to this entry
+         */
+        private volatile long access;
+
+        /**
+         * Initializes a new entry for the specified value
+         *
+         * @param value  The cached value
+         * @param access The order of the latest access to this entry
+         */
+        Node(final V value, final long access) {
+            this.value = value;
+            this.access = access;
+        }
+    }
+}
@@ -25,7 +25,10 @@
 package com.gitlab.cdagaming.craftpresence.core.impl;
 
 import com.gitlab.cdagaming.craftpresence.core.Constants;
+import com.gitlab.cdagaming.craftpresence.core.config.ConfigChange;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Supplier;
 
 /**
@@ -389,4 +392,24 @@ public interface Module {
     default void queueConfigScan() {
         setScannedConfig(false);
     }
+
+    /**
+     * Retrieves the config paths this module depends on
+     * <p>
+     * Paths are dot-separated, and will match any change at or below them
+     *
+     * @return the list of config paths this module depends on
+     */
+    default List<String> getConfigPaths() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Module Event to Occur when config paths this module depends on have changed
+     *
+     * @param changes The changes affecting this module
+     */
+    default void onConfigChange(final List<ConfigChange> changes) {
+        queueConfigScan();
+    }
 }
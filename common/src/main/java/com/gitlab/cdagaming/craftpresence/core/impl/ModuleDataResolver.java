@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.core.impl;
+
+import com.gitlab.cdagaming.craftpresence.core.config.Config;
+import com.gitlab.cdagaming.craftpresence.core.config.element.ModuleData;
+import com.gitlab.cdagaming.craftpresence.core.config.element.PresenceData;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Resolves and caches the effective {@link ModuleData} for a module's current element
+ * <p>
+ * Results are reused until the requested keys change, or until {@link ModuleDataResolver#invalidate()}
+ * is called, such as when config data is applied
+ *
+ * @author CDAGaming
+ */
+public class ModuleDataResolver {
+    /**
+     * The function used to retrieve {@link ModuleData} for a key
+     */
+    private final Function<String, ModuleData> lookup;
+    /**
+     * The key for the default {@link ModuleData}
+     */
+    private final String defaultId;
+    /**
+     * The most recently resolved data, if any
+     */
+    private volatile Entry entry;
+
+    /**
+     * Initializes a new resolver for the specified lookup function
+     *
+     * @param lookup    The function used to retrieve {@link ModuleData} for a key
+     * @param defaultId The key for the default {@link ModuleData}
+     */
+    public ModuleDataResolver(final Function<String, ModuleData> lookup, final String defaultId) {
+        this.lookup = lookup;
+        this.defaultId = defaultId;
+    }
+
+    /**
+     * Initializes a new resolver for the specified module
+     *
+     * @param module The module to retrieve {@link ModuleData} from
+     */
+    public ModuleDataResolver(final ExtendedModule module) {
+        this(module::getData, module.getDefaultId());
+    }
+
+    /**
+     * Retrieve the first valid value of a property, from the specified {@link ModuleData} list
+     *
+     * @param name    The property name to interpret
+     * @param modules The modules to interpret, in priority order
+     * @return the first valid property value, or null if none found
+     */
+    private static String getFirstValid(final String name, final ModuleData... modules) {
+        for (ModuleData module : modules) {
+            if (Config.isValidProperty(module, name)) {
+                return module.getProperty(name).toString();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieve the effective data for the specified keys, resolving it if needed
+     *
+     * @param keys The element keys to interpret, in priority order
+     * @return the resolved module data
+     */
+    public ResolvedModuleData resolve(final String... keys) {
+        final Entry current = entry;
+        if (current != null && Arrays.equals(current.keys, keys)) {
+            return current.data;
+        }
+
+        final ModuleData defaultData = lookup.apply(defaultId);
+        final ModuleData[] modules = new ModuleData[keys.length + 1];
+        ModuleData data = null;
+        for (int i = 0; i < keys.length; i++) {
+            modules[i] = keys[i] != null ? lookup.apply(keys[i]) : null;
+            if (data == null) {
+                data = modules[i];
+            }
+        }
+        modules[keys.length] = defaultData;
+        if (data == null) {
+            data = defaultData;
+        }
+
+        final ResolvedModuleData result = new ResolvedModuleData(
+                data,
+                getFirstValid("textOverride", modules),
+                getFirstValid("iconOverride", modules),
+                data != null ? (PresenceData) data.getProperty("data") : null
+        );
+        entry = new Entry(keys.clone(), result);
+        return result;
+    }
+
+    /**
+     * Clears the resolved data, causing it to be resolved again on next use
+     */
+    public void invalidate() {
+        entry = null;
+    }
+
+    /**
+     * A mapping of resolved data, to the keys it was resolved from
+     *
+     * @param keys The element keys the data was resolved from
+     * @param data The resolved module data
+     */
+    private record Entry(String[] keys, ResolvedModuleData data) {
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.core.impl;
+
+import com.gitlab.cdagaming.craftpresence.core.Constants;
+import io.github.cdagaming.unicore.utils.FileUtils;
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A concurrent, size-bounded cache of resolved classes and member accessors, used for reflective lookups
+ * <p>
+ * Resolved fields and methods are stored as {@link MethodHandle} instances, keyed by
+ * their owning class, member names and parameter types. Failed lookups are cached as well,
+ * so that repeated lookups of a missing member do not repeat the search
+ * <p>
+ * Each handle is adapted once on resolution to a common {@code (Object, Object[])Object} shape,
+ * so that it can be invoked exactly without per-call argument conversion
+ *
+ * @author CDAGaming
+ */
+public class ReflectionCache {
+    /**
+     * The lookup used to convert members into {@link MethodHandle} instances
+     */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    /**
+     * The maximum amount of entries to retain within each cache
+     */
+    private static final int MAX_ENTRIES = 256;
+    /**
+     * The resolved classes, indexed by their name
+     */
+    private final LruCache<String, Optional<Class<?>>> classes = new LruCache<>(MAX_ENTRIES);
+    /**
+     * The resolved field accessors, indexed by their member key
+     */
+    private final LruCache<MemberKey, Optional<Accessor>> fields = new LruCache<>(MAX_ENTRIES);
+    /**
+     * The resolved field setters, indexed by their member key
+     */
+    private final LruCache<MemberKey, Optional<Accessor>> setters = new LruCache<>(MAX_ENTRIES);
+    /**
+     * The resolved method accessors, indexed by their member key
+     */
+    private final LruCache<MemberKey, Optional<Accessor>> methods = new LruCache<>(MAX_ENTRIES);
+
+    /**
+     * Retrieve the class with the specified name, loading it if needed
+     *
+     * @param name The class name to interpret
+     * @return the resolved class, or null if not found
+     */
+    public Class<?> loadClass(final String name) {
+        if (StringUtils.isNullOrEmpty(name)) {
+            return null;
+        }
+        return classes.computeIfAbsent(name, key -> Optional.ofNullable(FileUtils.loadClass(key))).orElse(null);
+    }
+
+    /**
+     * Retrieve the value of the first matching field from the specified class
+     *
+     * @param classToAccess The class to access the field from
+     * @param instance      The instance to access the field from, or null for static fields
+     * @param fieldNames    The field names to try, in priority order
+     * @return the field value, or null if not found
+     */
+    public Object getField(final Class<?> classToAccess, final Object instance, final String... fieldNames) {
+        final Optional<Accessor> accessor = fields.computeIfAbsent(
+                new MemberKey(classToAccess, Arrays.asList(fieldNames), null),
+                key -> findField(classToAccess, fieldNames)
+        );
+        return accessor.map(data -> data.invoke(instance)).orElse(null);
+    }
+
+    /**
+     * Update the value of the first matching field from the specified class
+     * <p>
+     * Final instance fields are updated as well, while static final fields cannot be and are skipped
+     *
+     * @param classToAccess The class to access the field from
+     * @param instance      The instance to access the field from, or null for static fields
+     * @param value         The value to assign
+     * @param fieldNames    The field names to try, in priority order
+     * @return {@link Boolean#TRUE} if the field was found and updated
+     */
+    public boolean setField(final Class<?> classToAccess, final Object instance, final Object value, final String... fieldNames) {
+        final Optional<Accessor> accessor = setters.computeIfAbsent(
+                new MemberKey(classToAccess, Arrays.asList(fieldNames), null),
+                key -> findSetter(classToAccess, fieldNames)
+        );
+        return accessor.map(data -> data.update(instance, value)).orElse(false);
+    }
+
+    /**
+     * Invoke the first matching method from the specified class
+     * <p>
+     * Methods that cannot be resolved directly are delegated to {@link StringUtils#executeMethod}
+     *
+     * @param classToAccess  The class to access the method from
+     * @param instance       The instance to invoke the method on, or null for static methods
+     * @param parameterTypes The method parameter types, or null for none
+     * @param parameters     The method parameters, or null for none
+     * @param methodNames    The method names to try, in priority order
+     * @return the method result, or null if not found
+     */
+    public Object executeMethod(final Class<?> classToAccess, final Object instance, final Class<?>[] parameterTypes, final Object[] parameters, final String... methodNames) {
+        final Class<?>[] types = parameterTypes != null ? parameterTypes : new Class<?>[0];
+        final Optional<Accessor> accessor = methods.computeIfAbsent(
+                new MemberKey(classToAccess, Arrays.asList(methodNames), Arrays.asList(types)),
+                key -> findMethod(classToAccess, types, methodNames)
+        );
+        if (accessor.isPresent()) {
+            return accessor.get().invoke(instance, parameters != null ? parameters : new Object[0]);
+        }
+        return StringUtils.executeMethod(classToAccess, instance, parameterTypes, parameters, methodNames);
+    }
+
+    /**
+     * Remove all cached classes and accessors
+     */
+    public void clear() {
+        classes.clear();
+        fields.clear();
+        setters.clear();
+        methods.clear();
+    }
+
+    /**
+     * Resolve an accessor for the first matching field from the specified class
+     *
+     * @param classToAccess The class to access the field from
+     * @param fieldNames    The field names to try, in priority order
+     * @return the resolved accessor, if found
+     */
+    private Optional<Accessor> findField(final Class<?> classToAccess, final String... fieldNames) {
+        for (String name : fieldNames) {
+            final Optional<Field> field = getValidField(classToAccess, name);
+            if (field.isPresent()) {
+                try {
+                    final Field data = field.get();
+                    data.setAccessible(true);
+                    return Optional.of(Accessor.of(LOOKUP.unreflectGetter(data), Modifier.isStatic(data.getModifiers())));
+                } catch (Throwable ex) {
+                    Constants.LOG.debugError(ex);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Resolve a setter for the first matching field from the specified class
+     *
+     * @param classToAccess The class to access the field from
+     * @param fieldNames    The field names to try, in priority order
+     * @return the resolved setter, if found and writable
+     */
+    private Optional<Accessor> findSetter(final Class<?> classToAccess, final String... fieldNames) {
+        for (String name : fieldNames) {
+            final Optional<Field> field = getValidField(classToAccess, name);
+            if (field.isPresent()) {
+                final Field data = field.get();
+                final boolean isStatic = Modifier.isStatic(data.getModifiers());
+                if (isStatic && Modifier.isFinal(data.getModifiers())) {
+                    Constants.LOG.debugWarn("Unable to update static final field: " + classToAccess.getName() + "." + name);
+                    continue;
+                }
+                try {
+                    data.setAccessible(true);
+                    return Optional.of(Accessor.of(LOOKUP.unreflectSetter(data), isStatic));
+                } catch (Throwable ex) {
+                    Constants.LOG.debugError(ex);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Retrieve the field with the specified name from the specified class or its superclasses
+     *
+     * @param classToAccess The class to access the field from
+     * @param name          The field name to interpret
+     * @return the matching field, if found
+     */
+    private Optional<Field> getValidField(final Class<?> classToAccess, final String name) {
+        final Optional<Field> field = StringUtils.getValidField(classToAccess, name);
+        if (field.isPresent()) {
+            return field;
+        }
+        for (Class<?> current = classToAccess.getSuperclass(); current != null; current = current.getSuperclass()) {
+            try {
+                return Optional.of(current.getDeclaredField(name));
+            } catch (NoSuchFieldException ignored) {
+                // Continue searching within the superclass
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Resolve an accessor for the first matching method from the specified class or its superclasses
+     *
+     * @param classToAccess  The class to access the method from
+     * @param parameterTypes The method parameter types
+     * @param methodNames    The method names to try, in priority order
+     * @return the resolved accessor, if found
+     */
+    private Optional<Accessor> findMethod(final Class<?> classToAccess, final Class<?>[] parameterTypes, final String... methodNames) {
+        for (String name : methodNames) {
+            for (Class<?> current = classToAccess; current != null; current = current.getSuperclass()) {
+                try {
+                    final Method data = current.getDeclaredMethod(name, parameterTypes);
+                    data.setAccessible(true);
+                    return Optional.of(Accessor.of(LOOKUP.unreflect(data), Modifier.isStatic(data.getModifiers())));
+                } catch (NoSuchMethodException ignored) {
+                    // Continue searching within the superclass
+                } catch (Throwable ex) {
+                    Constants.LOG.debugError(ex);
+                    break;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * A mapping of a member lookup, to be used as a cache key
+     *
+     * @param owner          The class the member is retrieved from
+     * @param names          The member names, in priority order
+     * @param parameterTypes The parameter types, or null for fields
+     */
+    private record MemberKey(Class<?> owner, List<String> names, List<Class<?>> parameterTypes) {
+    }
+
+    /**
+     * A resolved member accessor
+     *
+     * @param handle The {@link MethodHandle} used to access the member, adapted to {@code (Object, Object[])Object}
+     */
+    private record Accessor(MethodHandle handle) {
+        /**
+         * Adapt the specified {@link MethodHandle} into a member accessor
+         *
+         * @param handle   The {@link MethodHandle} used to access the member
+         * @param isStatic Whether the member is static
+         * @return the adapted member accessor
+         */
+        private static Accessor of(final MethodHandle handle, final boolean isStatic) {
+            final int count = handle.type().parameterCount();
+            MethodHandle result = handle.asType(MethodType.genericMethodType(count));
+            if (isStatic) {
+                result = MethodHandles.dropArguments(result, 0, Object.class);
+            }
+            return new Accessor(result.asSpreader(Object[].class, isStatic ? count : count - 1));
+        }
+
+        /**
+         * Invoke this accessor with the specified arguments
+         *
+         * @param instance  The instance to access the member from, ignored for static members
+         * @param arguments The arguments to supply
+         * @return the result of the access, or null if it failed
+         */
+        private Object invoke(final Object instance, final Object... arguments) {
+            try {
+                return (Object) handle.invokeExact(instance, arguments);
+            } catch (Throwable ex) {
+                Constants.LOG.debugError(ex);
+                return null;
+            }
+        }
+
+        /**
+         * Invoke this accessor as a setter with the specified value
+         *
+         * @param instance The instance to access the member from, ignored for static members
+         * @param value    The value to supply
+         * @return {@link Boolean#TRUE} if the access succeeded
+         */
+        private boolean update(final Object instance, final Object value) {
+            try {
+                final Object ignored = (Object) handle.invokeExact(instance, new Object[]{value});
+                return true;
+            } catch (Throwable ex) {
+                Constants.LOG.debugError(ex);
+                return false;
+            }
+        }
+    }
+}
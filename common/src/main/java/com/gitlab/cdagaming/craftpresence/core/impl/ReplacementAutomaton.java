@@ -0,0 +1,259 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.core.impl;
+
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.BiConsumer;
+
+/**
+ * A multi-pattern text replacer, backed by an Aho-Corasick automaton
+ * <p>
+ * The automaton is built once per mapping table, after which every pattern is replaced
+ * in a single left-to-right pass over the input. Overlapping matches are resolved by
+ * taking the leftmost match, and the longest pattern at that position
+ *
+ * @author CDAGaming
+ * @see <a href="https://en.wikipedia.org/wiki/Aho%E2%80%93Corasick_algorithm">Aho-Corasick algorithm</a>
+ */
+public class ReplacementAutomaton {
+    /**
+     * The root node of this automaton
+     */
+    private final Node root = new Node(0);
+    /**
+     * The amount of patterns in this automaton
+     */
+    private int size = 0;
+
+    /**
+     * Initializes a new automaton from the specified mappings
+     *
+     * @param replacers The mappings to interpret, as pattern to replacement
+     */
+    public ReplacementAutomaton(final Map<String, String> replacers) {
+        if (replacers != null) {
+            for (Map.Entry<String, String> entry : replacers.entrySet()) {
+                add(entry.getKey(), entry.getValue());
+            }
+        }
+        build();
+    }
+
+    /**
+     * Adds a pattern to this automaton, keeping the first replacement for duplicate patterns
+     *
+     * @param pattern     The pattern to interpret
+     * @param replacement The replacement text for the pattern
+     */
+    private void add(final String pattern, final String replacement) {
+        if (StringUtils.isNullOrEmpty(pattern)) {
+            return;
+        }
+
+        Node node = root;
+        for (int i = 0; i < pattern.length(); i++) {
+            final int depth = i + 1;
+            node = node.children.computeIfAbsent(pattern.charAt(i), k -> new Node(depth));
+        }
+        if (node.pattern == null) {
+            node.pattern = pattern;
+            node.replacement = StringUtils.getOrDefault(replacement);
+            size++;
+        }
+    }
+
+    /**
+     * Computes the failure and output links for each node, in breadth-first order
+     */
+    private void build() {
+        final Queue<Node> queue = new ArrayDeque<>();
+        for (Node child : root.children.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            final Node node = queue.poll();
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                final Node child = entry.getValue();
+                child.fail = step(node.fail, entry.getKey());
+                child.output = child.fail.pattern != null ? child.fail : child.fail.output;
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Retrieve the next state of this automaton, following failure links as needed
+     *
+     * @param state The current state
+     * @param c     The next character
+     * @return the next state
+     */
+    private Node step(Node state, final char c) {
+        while (state != root && !state.children.containsKey(c)) {
+            state = state.fail;
+        }
+        final Node next = state.children.get(c);
+        return next != null ? next : root;
+    }
+
+    /**
+     * Retrieve the amount of patterns in this automaton
+     *
+     * @return the amount of patterns
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determine whether this automaton has no patterns to replace
+     *
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Replaces all pattern occurrences in the specified text
+     *
+     * @param input The text to interpret
+     * @return the resulting text
+     */
+    public String replace(final String input) {
+        return replace(input, null);
+    }
+
+    /**
+     * Replaces all pattern occurrences in the specified text
+     *
+     * @param input    The text to interpret
+     * @param listener The callback to run for each replaced pattern, as pattern and replacement (Optional)
+     * @return the resulting text
+     */
+    public String replace(final String input, final BiConsumer<String, String> listener) {
+        if (StringUtils.isNullOrEmpty(input) || isEmpty()) {
+            return input;
+        }
+
+        StringBuilder result = null;
+        int copied = 0;
+        Node state = root;
+        Node pending = null;
+        int pendingStart = -1, pendingEnd = -1;
+
+        for (int i = 0; i < input.length(); i++) {
+            state = step(state, input.charAt(i));
+
+            // The longest pattern ending here is the state itself, or its nearest output link
+            final Node match = state.pattern != null ? state : state.output;
+            if (match != null) {
+                final int start = i - match.depth + 1;
+                if (pending == null || start <= pendingStart) {
+                    pending = match;
+                    pendingStart = start;
+                    pendingEnd = i + 1;
+                }
+            }
+
+            // Once no later match can begin at or before the pending one, it is final
+            if (pending != null && i - state.depth + 1 > pendingStart) {
+                if (result == null) {
+                    result = new StringBuilder(input.length());
+                }
+                result.append(input, copied, pendingStart).append(pending.replacement);
+                if (listener != null) {
+                    listener.accept(pending.pattern, pending.replacement);
+                }
+                copied = pendingEnd;
+                i = pendingEnd - 1;
+                state = root;
+                pending = null;
+            }
+        }
+
+        if (pending != null) {
+            if (result == null) {
+                result = new StringBuilder(input.length());
+            }
+            result.append(input, copied, pendingStart).append(pending.replacement);
+            if (listener != null) {
+                listener.accept(pending.pattern, pending.replacement);
+            }
+            copied = pendingEnd;
+        }
+
+        if (result == null) {
+            return input;
+        }
+        return result.append(input, copied, input.length()).toString();
+    }
+
+    /**
+     * A node within an {@link ReplacementAutomaton}
+     */
+    private static class Node {
+        /**
+         * The child nodes, indexed by their character
+         */
+        private final Map<Character, Node> children = StringUtils.newHashMap();
+        /**
+         * The length of the text leading to this node
+         */
+        private final int depth;
+        /**
+         * The longest proper suffix of this node that also exists in the automaton
+         */
+        private Node fail;
+        /**
+         * The nearest node along the failure links that ends a pattern, if any
+         */
+        private Node output;
+        /**
+         * The pattern ending at this node, if any
+         */
+        private String pattern;
+        /**
+         * The replacement text for the pattern ending at this node, if any
+         */
+        private String replacement;
+
+        /**
+         * Initializes a new node
+         *
+         * @param depth The length of the text leading to this node
+         */
+        private Node(final int depth) {
+            this.depth = depth;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.core.impl;
+
+import com.gitlab.cdagaming.craftpresence.core.config.element.ModuleData;
+import com.gitlab.cdagaming.craftpresence.core.config.element.PresenceData;
+
+/**
+ * A record mapping for the effective {@link ModuleData} of a module's current element
+ *
+ * @param data         The first available {@link ModuleData} for the element, or the default data if none found
+ * @param textOverride The first valid text override for the element, falling back to the default data, if any
+ * @param iconOverride The first valid icon override for the element, falling back to the default data, if any
+ * @param presenceData The {@link PresenceData} attached to the effective {@link ModuleData}, if any
+ * @author CDAGaming
+ */
+public record ResolvedModuleData(ModuleData data, String textOverride, String iconOverride,
+                                 PresenceData presenceData) {
+    /**
+     * Retrieve the text override, or the specified fallback if none is present
+     *
+     * @param fallback The string to default to
+     * @return the text override, or `fallback` if none is present
+     */
+    public String getTextOverride(final String fallback) {
+        return textOverride != null ? textOverride : fallback;
+    }
+
+    /**
+     * Retrieve the icon override, or the specified fallback if none is present
+     *
+     * @param fallback The string to default to
+     * @return the icon override, or `fallback` if none is present
+     */
+    public String getIconOverride(final String fallback) {
+        return iconOverride != null ? iconOverride : fallback;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.core.impl;
+
+import io.github.cdagaming.unicore.utils.StringUtils;
+import io.github.cdagaming.unicore.utils.TimeUtils;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Set of Utilities used to Format and Parse Time Data, using cached formatters and zones
+ * <p>
+ * Patterns and zone ids are compiled once and reused, keyed by pattern and locale, or zone id,
+ * so that time placeholders evaluated on every refresh do not re-parse them.
+ * Invalid patterns, zones or time data are reported to the caller as exceptions
+ *
+ * @author CDAGaming
+ */
+public class TimeFormats {
+    /**
+     * The maximum amount of compiled formatters to retain
+     */
+    public static final int MAX_FORMATTERS = 64;
+    /**
+     * The maximum amount of resolved zones to retain
+     */
+    public static final int MAX_ZONES = 32;
+    /**
+     * The compiled formatters, indexed by their pattern and locale
+     */
+    private static final LruCache<FormatKey, DateTimeFormatter> FORMATTERS = new LruCache<>(MAX_FORMATTERS);
+    /**
+     * The resolved zones, indexed by their id
+     */
+    private static final LruCache<String, ZoneId> ZONES = new LruCache<>(MAX_ZONES);
+
+    /**
+     * Retrieve the compiled formatter for the specified pattern, using the default locale
+     *
+     * @param pattern The pattern to interpret
+     * @return the compiled formatter
+     */
+    public static DateTimeFormatter getFormatter(final String pattern) {
+        return getFormatter(pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * Retrieve the compiled formatter for the specified pattern and locale
+     *
+     * @param pattern The pattern to interpret
+     * @param locale  The locale to interpret
+     * @return the compiled formatter
+     */
+    public static DateTimeFormatter getFormatter(final String pattern, final Locale locale) {
+        return FORMATTERS.computeIfAbsent(new FormatKey(pattern, locale),
+                key -> DateTimeFormatter.ofPattern(key.pattern(), key.locale())
+        );
+    }
+
+    /**
+     * Retrieve the resolved zone for the specified zone id
+     *
+     * @param zoneId The zone id to interpret, or null for the default zone
+     * @return the resolved zone
+     */
+    public static ZoneId getZone(final String zoneId) {
+        return ZONES.computeIfAbsent(StringUtils.getOrDefault(zoneId, TimeUtils.DEFAULT_ZONE), ZoneId::of);
+    }
+
+    /**
+     * Convert the specified {@link Instant} to a String
+     *
+     * @param date       The {@link Instant} to interpret
+     * @param toFormat   The pattern to format the {@link Instant} with
+     * @param toTimeZone The zone id to format the {@link Instant} in
+     * @return the formatted String
+     * @throws DateTimeException        If the zone id is invalid, or the {@link Instant} cannot be formatted
+     * @throws IllegalArgumentException If the pattern is invalid
+     */
+    public static String toString(final Instant date, final String toFormat, final String toTimeZone) {
+        return getFormatter(toFormat).format(date.atZone(getZone(toTimeZone)));
+    }
+
+    /**
+     * Convert the specified {@link Instant} to a String, in the default zone
+     *
+     * @param date     The {@link Instant} to interpret
+     * @param toFormat The pattern to format the {@link Instant} with
+     * @return the formatted String
+     * @throws DateTimeException        If the {@link Instant} cannot be formatted
+     * @throws IllegalArgumentException If the pattern is invalid
+     */
+    public static String toString(final Instant date, final String toFormat) {
+        return toString(date, toFormat, TimeUtils.DEFAULT_ZONE);
+    }
+
+    /**
+     * Convert the specified String to an {@link Instant}
+     *
+     * @param dateString   The String to interpret
+     * @param fromFormat   The pattern the String is formatted with
+     * @param fromTimeZone The zone id the String is formatted in, if not included
+     * @return the parsed {@link Instant}
+     * @throws DateTimeException        If the zone id is invalid, or the String does not describe an {@link Instant}
+     * @throws IllegalArgumentException If the pattern is invalid
+     */
+    public static Instant toInstant(final String dateString, final String fromFormat, final String fromTimeZone) {
+        return getFormatter(fromFormat).withZone(getZone(fromTimeZone)).parse(dateString, Instant::from);
+    }
+
+    /**
+     * Convert a String between the specified formats and zones
+     *
+     * @param dateString   The String to interpret
+     * @param fromFormat   The pattern the String is formatted with
+     * @param fromTimeZone The zone id the String is formatted in
+     * @param toFormat     The pattern to format the result with
+     * @param toTimeZone   The zone id to format the result in
+     * @return the converted String
+     * @throws DateTimeException        If a zone id is invalid, or the String cannot be converted
+     * @throws IllegalArgumentException If a pattern is invalid
+     */
+    public static String convertTime(final String dateString, final String fromFormat, final String fromTimeZone, final String toFormat, final String toTimeZone) {
+        return toString(toInstant(dateString, fromFormat, fromTimeZone), toFormat, toTimeZone);
+    }
+
+    /**
+     * The cache key for a compiled formatter
+     *
+     * @param pattern The pattern to interpret
+     * @param locale  The locale to interpret
+     */
+    private record FormatKey(String pattern, Locale locale) {
+    }
+}
@@ -28,6 +28,7 @@ import com.gitlab.cdagaming.craftpresence.core.Constants;
 import com.gitlab.cdagaming.craftpresence.core.config.Config;
 import com.gitlab.cdagaming.craftpresence.core.config.element.Button;
 import com.gitlab.cdagaming.craftpresence.core.config.element.PresenceData;
+import com.gitlab.cdagaming.craftpresence.core.impl.LruCache;
 import com.gitlab.cdagaming.craftpresence.core.impl.discord.CompiledPresence;
 import com.gitlab.cdagaming.craftpresence.core.impl.discord.DiscordStatus;
 import com.gitlab.cdagaming.craftpresence.core.integrations.discord.assets.DiscordAsset;
@@ -73,12 +74,17 @@ public class DiscordUtils {
      * A Mapping of the Arguments available to use as RPC Message Placeholders
      */
     private final Map<String, Supplier<Value>> placeholderData = StringUtils.newConcurrentHashMap();
+    /**
+     * The maximum amount of resolved image entries to retain
+     */
+    private static final int MAX_CACHED_IMAGES = 256;
     /**
      * A Mapping of the Last Requested Image Data
      * <p>Used to cache data for repeated images in other areas
-     * <p>Format: evalKey, resultingKey
+     * <p>Entries are tagged with the asset version, and are invalidated on asset reloads
+     * <p>Format: fallbackChain, resultingKey
      */
-    private final Map<String, String> cachedImageData = StringUtils.newHashMap();
+    private final LruCache<String, String> cachedImageData = new LruCache<>(MAX_CACHED_IMAGES);
     /**
      * The step-through order for forced RPC data, used in determining event priority
      */
@@ -241,7 +247,8 @@ public class DiscordUtils {
             ipcInstance.setListener(listener);
         }
         // Initialize Discord Assets
-        DiscordAssetUtils.loadAssets(CLIENT_ID, true, dynamicIcons);
+        // Cached assets are applied immediately, with any changes applied once revalidated
+        DiscordAssetUtils.loadAssetsAsync(CLIENT_ID, dynamicIcons, cachedImageData::clear);
         // Mark as Disconnected to trigger auto-sync
         STATUS = DiscordStatus.Disconnected;
     }
@@ -1303,7 +1310,8 @@ public class DiscordUtils {
                 );
                 if (filterToMain) {
                     DiscordAssetUtils.syncCustomAssets(config.displaySettings.dynamicIcons);
-                    config.save();
+                    // No unsaved settings exist here, so there is nothing for applySettings to do
+                    config.save(false);
                 }
             }
         }
@@ -1385,6 +1393,44 @@ public class DiscordUtils {
         updatePresence(buildRichPresence());
     }
 
+    /**
+     * Retrieves the cache key for an image request, covering its full fallback chain
+     * <p>
+     * When null results are not allowed, the configured Default Icon is included,
+     * so that changing it will not return a fallback resolved against the previous value
+     *
+     * @param allowNull   If allowed to return null if unable to find any matches
+     * @param evalStrings The Specified Icon Key(s) to search for
+     * @return the resulting cache key
+     */
+    private String getImageCacheKey(final boolean allowNull, final String... evalStrings) {
+        final StringBuilder key = new StringBuilder(allowNull ? "1" : "0");
+        if (!allowNull && defaultIconSupplier != null) {
+            key.append('\0').append(defaultIconSupplier.get());
+        }
+        key.append('\0');
+        for (String evalString : evalStrings) {
+            key.append('\0').append(evalString);
+        }
+        return key.toString();
+    }
+
+    /**
+     * Retrieves the Default Icon Key to fall back to, if no matches are found
+     *
+     * @return the Default Icon Key, or a random asset name if not found
+     */
+    private String getDefaultIcon() {
+        String defaultIcon = "";
+        if (defaultIconSupplier != null) {
+            final String defaultIconKey = defaultIconSupplier.get();
+            if (defaultIconKey != null) {
+                defaultIcon = DiscordAssetUtils.getKey(defaultIconKey);
+            }
+        }
+        return StringUtils.getOrDefault(defaultIcon, DiscordAssetUtils.getRandomAssetName());
+    }
+
     /**
      * Attempts to locate the specified Image, and if not existent, use the alternative String, and null if allowed
      *
@@ -1396,16 +1442,14 @@ public class DiscordUtils {
     public String imageOf(final boolean allowNull, final boolean showLogging, final String... evalStrings) {
         // Ensures Assets were fully synced from the Client ID before running
         String result;
-        if (!DiscordAssetUtils.ASSET_LIST.isEmpty() && !StringUtils.isNullOrEmpty(evalStrings[0])) {
+        if (DiscordAssetUtils.hasAssets() && !StringUtils.isNullOrEmpty(evalStrings[0])) {
             final String primaryKey = evalStrings[0];
-            if (!cachedImageData.containsKey(primaryKey)) {
-                String defaultIcon = "";
-                if (!allowNull) {
-                    if (defaultIconSupplier != null) {
-                        defaultIcon = DiscordAssetUtils.getKey(defaultIconSupplier.get());
-                    }
-                    defaultIcon = StringUtils.getOrDefault(defaultIcon, DiscordAssetUtils.getRandomAssetName());
-                }
+            final String cacheKey = getImageCacheKey(allowNull, evalStrings);
+            final int assetVersion = DiscordAssetUtils.getIndex().getVersion();
+            result = cachedImageData.get(cacheKey, assetVersion);
+            if (result == null) {
+                // The Default Icon is resolved once per entry, so a random fallback stays stable while cached
+                final String defaultIcon = allowNull ? "" : getDefaultIcon();
                 String finalKey = defaultIcon;
                 for (int i = 0; i < evalStrings.length; ) {
                     final String currentString = evalStrings[i];
@@ -1440,10 +1484,8 @@ public class DiscordUtils {
                     }
                 }
 
-                cachedImageData.put(primaryKey, finalKey);
+                cachedImageData.put(cacheKey, finalKey, assetVersion);
                 result = finalKey;
-            } else {
-                result = cachedImageData.get(primaryKey);
             }
         } else {
             result = "";
@@ -1521,6 +1563,7 @@ public class DiscordUtils {
 
             Constants.LOG.info(Constants.TRANSLATOR.translate("craftpresence.logger.info.shutdown"));
         }
+        FunctionsLib.URL_CACHE.shutdown();
     }
 
     /**
@@ -25,18 +25,25 @@
 package com.gitlab.cdagaming.craftpresence.core.integrations.discord;
 
 import com.gitlab.cdagaming.craftpresence.core.Constants;
+import com.gitlab.cdagaming.craftpresence.core.impl.FetchCache;
+import com.gitlab.cdagaming.craftpresence.core.impl.JsonPath;
+import com.gitlab.cdagaming.craftpresence.core.impl.LruCache;
+import com.gitlab.cdagaming.craftpresence.core.impl.ReflectionCache;
+import com.gitlab.cdagaming.craftpresence.core.impl.TimeFormats;
 import com.gitlab.cdagaming.craftpresence.core.integrations.discord.assets.DiscordAssetUtils;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
+import io.github.cdagaming.unicore.impl.Pair;
 import io.github.cdagaming.unicore.utils.*;
 import org.meteordev.starscript.StandardLib;
 import org.meteordev.starscript.Starscript;
 import org.meteordev.starscript.value.Value;
 
+import java.time.DateTimeException;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Standard library with some default functions and variables.
@@ -45,6 +52,40 @@ import java.util.List;
  */
 @SuppressWarnings("DuplicatedCode")
 public class FunctionsLib {
+    /**
+     * The default time remote data for getJsonElement remains fresh for, in milliseconds
+     */
+    public static final long URL_CACHE_TTL = 60000L;
+    /**
+     * The maximum amount of remote sources for getJsonElement to retain
+     */
+    public static final int URL_CACHE_SIZE = 32;
+    /**
+     * The cache of remote data used by getJsonElement
+     */
+    public static final FetchCache URL_CACHE = new FetchCache(
+            source -> UrlUtils.getURLText(source, "UTF-8"),
+            URL_CACHE_TTL, URL_CACHE_SIZE, 2
+    );
+    /**
+     * The parsed remote json documents used by getJsonElement, indexed by their url
+     * <p>
+     * Each document is paired with the {@link FetchCache.Entry} it was parsed from
+     */
+    private static final LruCache<String, Pair<FetchCache.Entry, JsonElement>> REMOTE_DOCUMENTS = new LruCache<>(URL_CACHE_SIZE);
+    /**
+     * The parsed inline json documents used by getJsonElement, indexed by their contents
+     */
+    private static final LruCache<String, JsonElement> JSON_DOCUMENTS = new LruCache<>(64);
+    /**
+     * The compiled json paths used by getJsonElement, indexed by their steps
+     */
+    private static final LruCache<List<String>, JsonPath> JSON_PATHS = new LruCache<>(256);
+    /**
+     * The cache of resolved classes and members used by reflective functions
+     */
+    private static final ReflectionCache REFLECTION = new ReflectionCache();
+
     public static void init(DiscordUtils client) {
         StandardLib.init(client.scriptEngine);
 
@@ -179,62 +220,101 @@ public class FunctionsLib {
 
     public static Value getJsonElement(Starscript ss, int argCount) {
         final List<String> path = StringUtils.newArrayList();
-        String source, json = "";
-        JsonObject contents;
-        JsonElement result;
+        String source = "", json = "";
+        FetchCache.Entry remote = null;
         // Argument Collection
         if (argCount < 1)
             ss.error("getJsonElement() requires one or more arguments, got %d.", argCount);
-        for (int i = 0; i < argCount; i++) {
-            if (i == argCount - 1) {
-                source = ss.pop().toString();
-                if (source.toLowerCase().startsWith("http")) {
-                    try {
-                        json = UrlUtils.getURLText(source, "UTF-8");
-                    } catch (Exception ex) {
-                        ss.error("Unable to parse URL for getJsonElement(), try again.");
-                    }
-                } else {
-                    json = source;
-                }
+        final Value[] args = new Value[argCount];
+        for (int i = argCount - 1; i >= 0; i--) {
+            args[i] = ss.pop();
+        }
+
+        // A leading number is the time to cache remote data for, in seconds, as sources are always strings
+        int index = 0;
+        long timeToLive = URL_CACHE_TTL;
+        if (argCount > 1 && args[0].isNumber()) {
+            timeToLive = Math.max(0L, (long) (args[0].getNumber() * 1000.0D));
+            index++;
+        }
+        source = args[index++].toString();
+        for (; index < argCount; index++) {
+            path.add(args[index].toString());
+        }
+
+        if (source.toLowerCase().startsWith("http")) {
+            // Remote data is fetched in the background, to avoid blocking evaluation
+            remote = URL_CACHE.get(source, timeToLive);
+            if (remote == null) {
+                return Value.null_();
+            } else if (!remote.hasValue()) {
+                ss.error("Unable to parse URL for getJsonElement(), try again.");
             } else {
-                path.add(ss.pop().toString());
+                json = remote.value();
             }
+        } else {
+            json = source;
+        }
+
+        JsonElement result = null;
+        try {
+            result = JSON_PATHS.computeIfAbsent(path, JsonPath::compile).resolve(
+                    getJsonDocument(source, remote, json)
+            );
+        } catch (IllegalArgumentException | IllegalStateException ex) {
+            ss.error("Unable to retrieve element for getJsonElement(): %s", ex.getMessage());
         }
-        result = contents = FileUtils.getJsonData(json, JsonElement.class).getAsJsonObject();
-        StringUtils.revlist(path);
-
-        boolean needsIndex = false;
-        for (String part : path) {
-            JsonElement element;
-            if (needsIndex) {
-                result = element = result.getAsJsonArray().get(
-                        StringUtils.getValidInteger(part).getSecond()
-                );
+        if (result == null || result.isJsonNull()) {
+            return Value.null_();
+        } else if (result.isJsonPrimitive()) {
+            final JsonPrimitive inner = result.getAsJsonPrimitive();
+            if (inner.isBoolean()) {
+                return Value.bool(inner.getAsBoolean());
+            } else if (inner.isNumber()) {
+                return Value.number(inner.getAsDouble());
+            } else if (inner.isString()) {
+                return Value.string(inner.getAsString());
             } else {
-                result = element = contents.get(part);
+                return Value.object(inner);
             }
-
-            if (element.isJsonObject()) {
-                contents = element.getAsJsonObject();
-            } else if (element.isJsonNull()) {
-                return Value.null_();
-            } else if (element.isJsonArray()) {
-                needsIndex = true;
-            } else if (element.isJsonPrimitive()) {
-                final JsonPrimitive inner = element.getAsJsonPrimitive();
-                if (inner.isBoolean()) {
-                    return Value.bool(inner.getAsBoolean());
-                } else if (inner.isNumber()) {
-                    return Value.number(inner.getAsDouble());
-                } else if (inner.isString()) {
-                    return Value.string(inner.getAsString());
-                } else {
-                    return Value.object(inner);
-                }
+        }
+        return Value.object(result);
+    }
+
+    /**
+     * Retrieve the parsed json document for the specified source, parsing it if needed
+     * <p>
+     * Remote documents are reused while their {@link FetchCache.Entry} is unchanged,
+     * while inline documents are indexed by their contents
+     *
+     * @param source The source the json was retrieved from
+     * @param remote The fetch result the json was retrieved from, or null for inline json
+     * @param json   The json contents to interpret
+     * @return the parsed json document
+     */
+    private static JsonElement getJsonDocument(final String source, final FetchCache.Entry remote, final String json) {
+        if (remote != null) {
+            final Pair<FetchCache.Entry, JsonElement> cached = REMOTE_DOCUMENTS.get(source);
+            if (cached != null && cached.getFirst() == remote) {
+                return cached.getSecond();
             }
+
+            final JsonElement document = parseJsonDocument(json);
+            REMOTE_DOCUMENTS.put(source, new Pair<>(remote, document));
+            return document;
         }
-        return result != null ? Value.object(result) : Value.null_();
+
+        return JSON_DOCUMENTS.computeIfAbsent(json, FunctionsLib::parseJsonDocument);
+    }
+
+    /**
+     * Parse the specified json contents into a json document
+     *
+     * @param json The json contents to interpret
+     * @return the parsed json document
+     */
+    private static JsonElement parseJsonDocument(final String json) {
+        return FileUtils.getJsonData(json, JsonElement.class).getAsJsonObject();
     }
 
     public static Value getResult(DiscordUtils client, Starscript ss, int argCount) {
@@ -568,7 +648,7 @@ public class FunctionsLib {
                 instance = temp;
             }
         } else if (target.isString()) {
-            classToAccess = FileUtils.loadClass(target.getString());
+            classToAccess = REFLECTION.loadClass(target.getString());
         } else {
             ss.error("Second argument to cast(), classToAccess, needs to be either a string, object, or class.");
         }
@@ -723,7 +803,7 @@ public class FunctionsLib {
                 instance = temp;
             }
         } else if (target.isString()) {
-            classToAccess = FileUtils.loadClass(target.getString());
+            classToAccess = REFLECTION.loadClass(target.getString());
         } else {
             ss.error("First argument to getField(), classToAccess, needs to be either a string, object, or class.");
         }
@@ -755,7 +835,7 @@ public class FunctionsLib {
         if (classToAccess == null || fields == null) {
             ss.error("Insufficient or null arguments provided for required getField() params, please try again.");
         } else {
-            result = StringUtils.getField(classToAccess, instance, fields.toArray(new String[0]));
+            result = REFLECTION.getField(classToAccess, instance, fields.toArray(new String[0]));
         }
 
         return result != null ? client.toValue(result, true) : Value.null_();
@@ -768,7 +848,7 @@ public class FunctionsLib {
         if (value.isObject()) {
             result = value.getObject().getClass();
         } else if (value.isString()) {
-            result = FileUtils.loadClass(value.getString());
+            result = REFLECTION.loadClass(value.getString());
         } else {
             ss.error("First argument to getClass() needs to be a valid class-compatible object.");
         }
@@ -812,7 +892,7 @@ public class FunctionsLib {
                 instance = temp;
             }
         } else if (target.isString()) {
-            classToAccess = FileUtils.loadClass(target.getString());
+            classToAccess = REFLECTION.loadClass(target.getString());
         } else {
             ss.error("First argument to executeMethod(), classToAccess, needs to be either a string, object, or class.");
         }
@@ -865,7 +945,7 @@ public class FunctionsLib {
                             classObj = paramClass;
                         }
                     } else if (data.isString()) {
-                        classObj = FileUtils.loadClass(data.getString());
+                        classObj = REFLECTION.loadClass(data.getString());
                     }
 
                     if (classObj == null) {
@@ -880,7 +960,7 @@ public class FunctionsLib {
             }
         }
 
-        Object result = StringUtils.executeMethod(classToAccess, instance,
+        Object result = REFLECTION.executeMethod(classToAccess, instance,
                 parameterTypes != null ? parameterTypes.toArray(new Class<?>[0]) : null,
                 parameters != null ? parameters.toArray(new Object[0]) : null,
                 methodNames.toArray(new String[0])
@@ -957,6 +1037,24 @@ public class FunctionsLib {
         return Value.object(TimeUtils.fromEpochMilli((long) a));
     }
 
+    /**
+     * Run the specified time operation, reporting any invalid pattern, zone or time data as a script error
+     *
+     * @param ss        The {@link Starscript} instance to report errors to
+     * @param name      The function name to report errors with
+     * @param operation The time operation to run
+     * @param <T>       The result type of the operation
+     * @return the result of the operation
+     */
+    private static <T> T parseTime(final Starscript ss, final String name, final Supplier<T> operation) {
+        try {
+            return operation.get();
+        } catch (DateTimeException | IllegalArgumentException ex) {
+            ss.error("Unable to interpret time data for %s(): %s", name, ex.getMessage());
+            return null;
+        }
+    }
+
     public static Value dateToEpochSecond(Starscript ss, int argCount) {
         if (argCount < 2 || argCount > 3)
             ss.error("dateToEpochSecond() can only be used with 2-3 arguments, got %d.", argCount);
@@ -966,7 +1064,8 @@ public class FunctionsLib {
         }
         String format = ss.popString("Second argument to dateToEpochSecond() needs to be a string.");
         String dateString = ss.popString("First argument to dateToEpochSecond() needs to be a string.");
-        return Value.number(TimeUtils.stringToEpochSecond(dateString, format, timeZone));
+        final String zone = timeZone;
+        return Value.number(parseTime(ss, "dateToEpochSecond", () -> TimeFormats.toInstant(dateString, format, zone)).getEpochSecond());
     }
 
     public static Value dateToEpochMilli(Starscript ss, int argCount) {
@@ -978,7 +1077,8 @@ public class FunctionsLib {
         }
         String format = ss.popString("Second argument to dateToEpochMilli() needs to be a string.");
         String dateString = ss.popString("First argument to dateToEpochMilli() needs to be a string.");
-        return Value.number(TimeUtils.stringToEpochMilli(dateString, format, timeZone));
+        final String zone = timeZone;
+        return Value.number(parseTime(ss, "dateToEpochMilli", () -> TimeFormats.toInstant(dateString, format, zone)).toEpochMilli());
     }
 
     public static Value epochSecondToDate(Starscript ss, int argCount) {
@@ -990,7 +1090,8 @@ public class FunctionsLib {
         }
         String format = ss.popString("Second argument to epochSecondToDate() needs to be a string.");
         double dateString = ss.popNumber("First argument to epochSecondToDate() needs to be a number.");
-        return Value.string(TimeUtils.epochSecondToString((long) dateString, format, timeZone));
+        final String zone = timeZone;
+        return Value.string(parseTime(ss, "epochSecondToDate", () -> TimeFormats.toString(Instant.ofEpochSecond((long) dateString), format, zone)));
     }
 
     public static Value epochMilliToDate(Starscript ss, int argCount) {
@@ -1002,7 +1103,8 @@ public class FunctionsLib {
         }
         String format = ss.popString("Second argument to epochMilliToDate() needs to be a string.");
         double dateString = ss.popNumber("First argument to epochMilliToDate() needs to be a number.");
-        return Value.string(TimeUtils.epochMilliToString((long) dateString, format, timeZone));
+        final String zone = timeZone;
+        return Value.string(parseTime(ss, "epochMilliToDate", () -> TimeFormats.toString(Instant.ofEpochMilli((long) dateString), format, zone)));
     }
 
     public static Value convertTimeZone(Starscript ss, int argCount) {
@@ -1011,7 +1113,7 @@ public class FunctionsLib {
         String fromTimeZone = ss.popString("Third argument to convertTimeZone() needs to be a string.");
         String fromFormat = ss.popString("Second argument to convertTimeZone() needs to be a string.");
         String dateString = ss.popString("First argument to convertTimeZone() needs to be a string.");
-        return Value.string(TimeUtils.convertZone(dateString, fromFormat, fromTimeZone, toTimeZone));
+        return Value.string(parseTime(ss, "convertTimeZone", () -> TimeFormats.convertTime(dateString, fromFormat, fromTimeZone, fromFormat, toTimeZone)));
     }
 
     public static Value convertTimeFormat(Starscript ss, int argCount) {
@@ -1019,7 +1121,7 @@ public class FunctionsLib {
         String toFormat = ss.popString("Third argument to convertTimeFormat() needs to be a string.");
         String fromFormat = ss.popString("Second argument to convertTimeFormat() needs to be a string.");
         String dateString = ss.popString("First argument to convertTimeFormat() needs to be a string.");
-        return Value.string(TimeUtils.convertFormat(dateString, fromFormat, toFormat));
+        return Value.string(parseTime(ss, "convertTimeFormat", () -> TimeFormats.convertTime(dateString, fromFormat, TimeUtils.DEFAULT_ZONE, toFormat, TimeUtils.DEFAULT_ZONE)));
     }
 
     public static Value convertTime(Starscript ss, int argCount) {
@@ -1029,7 +1131,7 @@ public class FunctionsLib {
         String fromTimeZone = ss.popString("Third argument to convertTime() needs to be a string.");
         String fromFormat = ss.popString("Second argument to convertTime() needs to be a string.");
         String dateString = ss.popString("First argument to convertTime() needs to be a string.");
-        return Value.string(TimeUtils.convertTime(dateString, fromFormat, fromTimeZone, toFormat, toTimeZone));
+        return Value.string(parseTime(ss, "convertTime", () -> TimeFormats.convertTime(dateString, fromFormat, fromTimeZone, toFormat, toTimeZone)));
     }
 
     public static Value timeFromString(Starscript ss, int argCount) {
@@ -1041,7 +1143,8 @@ public class FunctionsLib {
         }
         String fromFormat = ss.popString("Second argument to timeFromString() needs to be a string.");
         String dateString = ss.popString("First argument to timeFromString() needs to be a string.");
-        return Value.object(TimeUtils.toInstant(dateString, fromFormat, fromTimeZone));
+        final String zone = fromTimeZone;
+        return Value.object(parseTime(ss, "timeFromString", () -> TimeFormats.toInstant(dateString, fromFormat, zone)));
     }
 
     public static Value timeToString(Starscript ss, int argCount) {
@@ -1054,7 +1157,8 @@ public class FunctionsLib {
         String toFormat = ss.popString("Second argument to timeToString() needs to be a string.");
         Object date = ss.popObject("First argument to timeToString() needs to be an object.");
         if (date instanceof Instant data) {
-            return Value.string(TimeUtils.toString(data, toFormat, toTimeZone));
+            final String zone = toTimeZone;
+            return Value.string(parseTime(ss, "timeToString", () -> TimeFormats.toString(data, toFormat, zone)));
         } else {
             ss.error("First Argument to timeToString() needs to be a valid Instant Object.");
         }
@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.core.integrations.discord.assets;
+
+import com.google.gson.annotations.Expose;
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * The Json Parsing Syntax for cached Discord Asset Data
+ * <p>
+ * Stores the asset list for a Client ID, alongside the validators needed to revalidate it
+ *
+ * @author CDAGaming
+ */
+public class DiscordAssetCache {
+    /**
+     * The entity tag of the asset list, as last retrieved from the endpoint
+     */
+    @SerializedName("eTag")
+    @Expose
+    private String eTag;
+
+    /**
+     * The last modified date of the asset list, as last retrieved from the endpoint
+     */
+    @SerializedName("lastModified")
+    @Expose
+    private String lastModified;
+
+    /**
+     * The asset list attached to the Client ID
+     */
+    @SerializedName("assets")
+    @Expose
+    private DiscordAsset[] assets;
+
+    /**
+     * Retrieves the entity tag of this asset list, if any
+     *
+     * @return The entity tag of this asset list
+     */
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * Sets the entity tag of this asset list
+     *
+     * @param eTag The new entity tag to assign
+     * @return The parsed {@link DiscordAssetCache}
+     */
+    public DiscordAssetCache setETag(String eTag) {
+        this.eTag = eTag;
+        return this;
+    }
+
+    /**
+     * Retrieves the last modified date of this asset list, if any
+     *
+     * @return The last modified date of this asset list
+     */
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Sets the last modified date of this asset list
+     *
+     * @param lastModified The new last modified date to assign
+     * @return The parsed {@link DiscordAssetCache}
+     */
+    public DiscordAssetCache setLastModified(String lastModified) {
+        this.lastModified = lastModified;
+        return this;
+    }
+
+    /**
+     * Retrieves the asset list attached to the Client ID
+     *
+     * @return The asset list attached to the Client ID
+     */
+    public DiscordAsset[] getAssets() {
+        return assets;
+    }
+
+    /**
+     * Sets the asset list attached to the Client ID
+     *
+     * @param assets The new asset list to assign
+     * @return The parsed {@link DiscordAssetCache}
+     */
+    public DiscordAssetCache setAssets(DiscordAsset[] assets) {
+        this.assets = assets;
+        return this;
+    }
+}
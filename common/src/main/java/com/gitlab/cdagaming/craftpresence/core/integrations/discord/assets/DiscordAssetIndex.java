@@ -0,0 +1,196 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.core.integrations.discord.assets;
+
+import com.gitlab.cdagaming.craftpresence.core.impl.LruCache;
+import com.gitlab.cdagaming.unilib.impl.ImageFrame;
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * An immutable lookup index for a loaded set of {@link DiscordAsset} data
+ * <p>
+ * Raw and normalized icon keys are resolved once when the index is built, so that
+ * repeated lookups against the same asset set are a single hash probe.
+ * Other keys, such as misses and external images, are resolved on first use and retained in a bounded cache
+ *
+ * @author CDAGaming
+ */
+public final class DiscordAssetIndex {
+    /**
+     * An empty index, used before any assets have been loaded
+     */
+    public static final DiscordAssetIndex EMPTY = new DiscordAssetIndex(0, StringUtils.newHashMap(), StringUtils.newHashMap());
+    /**
+     * The maximum amount of resolutions to retain for keys that are not known keys
+     */
+    private static final int MAX_OTHER_KEYS = 256;
+    /**
+     * The version of the asset set this index was built from
+     */
+    private final int version;
+    /**
+     * The Icon Keys and Asset Data available in this index
+     */
+    private final Map<String, DiscordAsset> assets;
+    /**
+     * The Icon Keys and Asset Data attached from dynamic (non-realtime) data
+     */
+    private final Map<String, DiscordAsset> customAssets;
+    /**
+     * Mapping of the raw and normalized known keys to their resolution
+     */
+    private final Map<String, Resolution> resolvedKeys;
+    /**
+     * Mapping of other recently used keys to their resolution
+     */
+    private final LruCache<String, Resolution> otherKeys = new LruCache<>(MAX_OTHER_KEYS);
+
+    /**
+     * Initializes a new index from the specified asset data
+     *
+     * @param version      The version of the asset set
+     * @param assets       The Icon Keys and Asset Data to index
+     * @param customAssets The Icon Keys and Asset Data attached from dynamic (non-realtime) data
+     */
+    public DiscordAssetIndex(final int version, final Map<String, DiscordAsset> assets, final Map<String, DiscordAsset> customAssets) {
+        this.version = version;
+        this.assets = Collections.unmodifiableMap(StringUtils.newHashMap(assets));
+        this.customAssets = Collections.unmodifiableMap(StringUtils.newHashMap(customAssets));
+
+        // Resolve both the raw and normalized forms of every known key
+        final Map<String, Resolution> keys = StringUtils.newHashMap();
+        for (String name : this.assets.keySet()) {
+            keys.put(name, resolve(name));
+            final String formattedName = StringUtils.formatAsIcon(name, "_");
+            if (!keys.containsKey(formattedName)) {
+                keys.put(formattedName, resolve(formattedName));
+            }
+        }
+        this.resolvedKeys = Collections.unmodifiableMap(keys);
+    }
+
+    /**
+     * Retrieves the version of the asset set this index was built from
+     *
+     * @return the version of the asset set
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Retrieves the Icon Keys and Asset Data available in this index
+     *
+     * @return the read-only asset mapping for this index
+     */
+    public Map<String, DiscordAsset> getAssets() {
+        return assets;
+    }
+
+    /**
+     * Retrieves the Icon Keys and Asset Data attached from dynamic (non-realtime) data
+     *
+     * @return the read-only custom asset mapping for this index
+     */
+    public Map<String, DiscordAsset> getCustomAssets() {
+        return customAssets;
+    }
+
+    /**
+     * Retrieves the {@link DiscordAsset} data for an Icon Key, normalizing the key if it is not a custom asset
+     *
+     * @param key The Specified Icon Key to gain info for
+     * @return The {@link DiscordAsset} data for this Icon Key, or null if not found
+     */
+    public DiscordAsset get(final String key) {
+        return lookup(key).asset();
+    }
+
+    /**
+     * Retrieves the {@link DiscordAsset} data for a custom Icon Key
+     *
+     * @param key The Specified Icon Key to gain info for
+     * @return The {@link DiscordAsset} data for this Icon Key, or null if not found
+     */
+    public DiscordAsset getCustom(final String key) {
+        return customAssets.get(key);
+    }
+
+    /**
+     * Determines if the Specified Icon Key is a custom asset or an external image
+     *
+     * @param key The Specified Icon Key to Check
+     * @return {@link Boolean#TRUE} if the Icon Key is a custom asset or an external image
+     */
+    public boolean isCustom(final String key) {
+        return customAssets.containsKey(key) || isExternal(key);
+    }
+
+    /**
+     * Determines if the Specified Icon Key is an external image
+     *
+     * @param key The Specified Icon Key to Check
+     * @return {@link Boolean#TRUE} if the Icon Key is an external image
+     */
+    public boolean isExternal(final String key) {
+        return lookup(key).external();
+    }
+
+    /**
+     * Retrieves the resolution for the specified key, resolving it if it is not a known key
+     *
+     * @param key The Specified Icon Key to interpret
+     * @return the resolution for the specified key
+     */
+    public Resolution lookup(final String key) {
+        final Resolution result = resolvedKeys.get(key);
+        return result != null ? result : otherKeys.computeIfAbsent(key, this::resolve);
+    }
+
+    /**
+     * Resolves the specified key against this asset set
+     *
+     * @param key The Specified Icon Key to interpret
+     * @return the resolution for the specified key
+     */
+    private Resolution resolve(final String key) {
+        final boolean isExternal = ImageFrame.isExternalImage(key);
+        final String formattedKey = customAssets.containsKey(key) || isExternal ? key : StringUtils.formatAsIcon(key, "_");
+        return new Resolution(formattedKey, assets.get(formattedKey), isExternal);
+    }
+
+    /**
+     * The resolution of an Icon Key against an asset set
+     *
+     * @param key      The Icon Key to look up, normalized unless it is a custom asset or an external image
+     * @param asset    The resolved {@link DiscordAsset}, or null if unresolved
+     * @param external Whether the Icon Key is an external image
+     */
+    public record Resolution(String key, DiscordAsset asset, boolean external) {
+    }
+}
@@ -25,12 +25,17 @@
 package com.gitlab.cdagaming.craftpresence.core.integrations.discord.assets;
 
 import com.gitlab.cdagaming.craftpresence.core.Constants;
-import com.gitlab.cdagaming.unilib.impl.ImageFrame;
+import com.gitlab.cdagaming.craftpresence.core.impl.HttpRequests;
+import com.gitlab.cdagaming.craftpresence.core.impl.LruCache;
 import io.github.cdagaming.unicore.utils.FileUtils;
 import io.github.cdagaming.unicore.utils.OSUtils;
 import io.github.cdagaming.unicore.utils.StringUtils;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.HttpURLConnection;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 /**
@@ -44,16 +49,26 @@ public class DiscordAssetUtils {
     /**
      * Mapping storing the Icon Keys and Asset Data attached to the Current Client
      * ID
+     * <p>
+     * This is a view of the current {@link DiscordAssetIndex}, and should only be modified through this class
      */
-    public static final Map<String, DiscordAsset> ASSET_LIST = StringUtils.newHashMap();
+    public static final Map<String, DiscordAsset> ASSET_LIST = StringUtils.newConcurrentHashMap();
     /**
      * Mapping storing the Icon Keys and Asset Data attached from dynamic (non-realtime) data
+     * <p>
+     * This is a view of the current {@link DiscordAssetIndex}, and should only be modified through this class
      */
-    public static final Map<String, DiscordAsset> CUSTOM_ASSET_LIST = StringUtils.newHashMap();
+    public static final Map<String, DiscordAsset> CUSTOM_ASSET_LIST = StringUtils.newConcurrentHashMap();
+    /**
+     * The maximum amount of realtime assets to retain
+     */
+    private static final int MAX_REALTIME_ASSETS = 128;
     /**
      * Mapping storing the Icon Keys and Asset Data attached from dynamic (realtime) data
+     * <p>
+     * This is bounded to the most recently used entries, as external urls can vary per-request
      */
-    public static final Map<String, DiscordAsset> REALTIME_ASSET_LIST = StringUtils.newHashMap();
+    public static final LruCache<String, DiscordAsset> REALTIME_ASSET_LIST = new LruCache<>(MAX_REALTIME_ASSETS);
     /**
      * The endpoint url for the Discord Applications backend
      */
@@ -62,6 +77,69 @@ public class DiscordAssetUtils {
      * The endpoint url for the Discord Application Assets backend
      */
     private static final String assetsEndpoint = "https://cdn.discordapp.com/app-assets/";
+    /**
+     * The directory to store cached asset lists in, per Client ID
+     */
+    private static final String cacheDir = Constants.configDir + File.separator + Constants.MOD_ID + File.separator + "cache" + File.separator + "assets";
+    /**
+     * The identifier of the latest asynchronous asset load, used to discard outdated results
+     */
+    private static final AtomicInteger loadRequest = new AtomicInteger();
+    /**
+     * The version counter for published asset sets
+     */
+    private static final AtomicInteger assetVersion = new AtomicInteger();
+    /**
+     * The lookup index for the current asset set, replaced as a whole on each change
+     */
+    private static volatile DiscordAssetIndex index = DiscordAssetIndex.EMPTY;
+    /**
+     * The Client ID the current asset set belongs to
+     */
+    private static volatile String indexClientId;
+
+    /**
+     * Retrieves the lookup index for the current asset set
+     *
+     * @return the current {@link DiscordAssetIndex}
+     */
+    public static DiscordAssetIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Determines if any assets are available for use
+     *
+     * @return {@link Boolean#TRUE} if any assets are available for use
+     */
+    public static boolean hasAssets() {
+        return !index.getAssets().isEmpty();
+    }
+
+    /**
+     * Publishes the specified asset data as the current asset set
+     * <p>
+     * The new index is swapped in as a whole, so lookups never observe a partially updated asset set
+     *
+     * @param assets       The Icon Keys and Asset Data to publish
+     * @param customAssets The Icon Keys and Asset Data attached from dynamic (non-realtime) data
+     */
+    private static synchronized void publish(final Map<String, DiscordAsset> assets, final Map<String, DiscordAsset> customAssets) {
+        index = new DiscordAssetIndex(assetVersion.incrementAndGet(), assets, customAssets);
+        syncView(ASSET_LIST, assets);
+        syncView(CUSTOM_ASSET_LIST, customAssets);
+    }
+
+    /**
+     * Synchronizes the specified view with the specified asset data, without clearing it beforehand
+     *
+     * @param view   The view to synchronize
+     * @param assets The asset data to synchronize from
+     */
+    private static void syncView(final Map<String, DiscordAsset> view, final Map<String, DiscordAsset> assets) {
+        view.keySet().retainAll(assets.keySet());
+        view.putAll(assets);
+    }
 
     /**
      * Determines if the specified Client ID is valid
@@ -93,7 +171,7 @@ public class DiscordAssetUtils {
      * @return {@link Boolean#TRUE} if the Icon Key is present and able to be used
      */
     public static boolean contains(final String key) {
-        return contains(ASSET_LIST, key);
+        return !StringUtils.isNullOrEmpty(key) && index.getAssets().containsKey(key);
     }
 
     /**
@@ -103,7 +181,7 @@ public class DiscordAssetUtils {
      * @return {@link Boolean#TRUE} if the Icon Key is present and able to be used
      */
     public static boolean isCustom(final String key) {
-        return contains(CUSTOM_ASSET_LIST, key) || ImageFrame.isExternalImage(key);
+        return !StringUtils.isNullOrEmpty(key) && index.isCustom(key);
     }
 
     /**
@@ -115,27 +193,42 @@ public class DiscordAssetUtils {
      * @return The {@link DiscordAsset} data for this Icon Key
      */
     public static DiscordAsset get(final Map<String, DiscordAsset> list, final String key) {
-        String formattedKey = key;
-        if (!StringUtils.isNullOrEmpty(formattedKey)) {
-            if (!list.equals(CUSTOM_ASSET_LIST) && !isCustom(formattedKey)) {
-                formattedKey = StringUtils.formatAsIcon(formattedKey, "_");
-            }
+        if (StringUtils.isNullOrEmpty(key)) {
+            return null;
+        }
 
-            if (contains(list, formattedKey)) {
-                return list.get(formattedKey);
-            }
-            if (ImageFrame.isExternalImage(formattedKey)) {
-                if (!REALTIME_ASSET_LIST.containsKey(formattedKey)) {
-                    final DiscordAsset asset = new DiscordAsset()
-                            .setName(formattedKey)
-                            .setUrl(formattedKey)
-                            .setType(DiscordAsset.AssetType.CUSTOM);
-                    REALTIME_ASSET_LIST.put(formattedKey, asset);
-                }
-                return REALTIME_ASSET_LIST.get(formattedKey);
-            }
+        // Resolved once through the index, including for other lists, as the key normalization is the same
+        final DiscordAssetIndex current = index;
+        final DiscordAssetIndex.Resolution resolution = current.lookup(key);
+        DiscordAsset asset;
+        if (list == ASSET_LIST) {
+            asset = resolution.asset();
+        } else if (list == CUSTOM_ASSET_LIST) {
+            asset = current.getCustom(key);
+        } else {
+            asset = contains(list, resolution.key()) ? list.get(resolution.key()) : null;
         }
-        return null;
+
+        if (asset == null && resolution.external()) {
+            asset = getRealtime(key);
+        }
+        return asset;
+    }
+
+    /**
+     * Retrieves the realtime {@link DiscordAsset} data for an external image, creating it if needed
+     * <p>
+     * Repeated requests for the same url will reuse the same instance, while it remains cached
+     *
+     * @param key The external image url to gain info for
+     * @return The {@link DiscordAsset} data for this external image
+     */
+    private static DiscordAsset getRealtime(final String key) {
+        return REALTIME_ASSET_LIST.computeIfAbsent(key, url -> new DiscordAsset()
+                .setName(url)
+                .setUrl(url)
+                .setType(DiscordAsset.AssetType.CUSTOM)
+        );
     }
 
     /**
@@ -271,8 +364,7 @@ public class DiscordAssetUtils {
      * Clears FULL Data from this Module
      */
     public static void emptyData() {
-        ASSET_LIST.clear();
-        CUSTOM_ASSET_LIST.clear();
+        publish(StringUtils.newHashMap(), StringUtils.newHashMap());
     }
 
     /**
@@ -282,7 +374,7 @@ public class DiscordAssetUtils {
      */
     public static DiscordAsset getRandomAsset() {
         try {
-            DiscordAsset[] values = ASSET_LIST.values().toArray(new DiscordAsset[0]);
+            DiscordAsset[] values = index.getAssets().values().toArray(new DiscordAsset[0]);
             return values[OSUtils.RANDOM.nextInt(values.length)];
         } catch (Throwable ex) {
             Constants.LOG.error(Constants.TRANSLATOR.translate("craftpresence.logger.error.config.invalid.icon.empty"));
@@ -315,6 +407,153 @@ public class DiscordAssetUtils {
                 + clientId + "/" + keyId + ".png" : "";
     }
 
+    /**
+     * Retrieves the cache file used to store the asset list for the specified Client ID
+     *
+     * @param clientId The client id to interpret
+     * @return the cache file for the specified client id
+     */
+    public static File getCacheFile(final String clientId) {
+        return new File(cacheDir + File.separator + clientId + ".json");
+    }
+
+    /**
+     * Retrieves the cached asset list for the specified Client ID, if any
+     *
+     * @param clientId The client id to load cached asset data from
+     * @return the cached asset data, or null if unavailable
+     */
+    public static DiscordAssetCache readCache(final String clientId) {
+        final File cacheFile = getCacheFile(clientId);
+        if (cacheFile.exists()) {
+            try {
+                return FileUtils.getJsonData(cacheFile, DiscordAssetCache.class);
+            } catch (Throwable ex) {
+                Constants.LOG.debugError(ex);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stores the specified asset list as the cached data for the specified Client ID
+     *
+     * @param clientId The client id to store cached asset data for
+     * @param data     The asset data to store
+     */
+    public static void writeCache(final String clientId, final DiscordAssetCache data) {
+        final File cacheFile = getCacheFile(clientId);
+        final File parentDir = cacheFile.getParentFile();
+        if (parentDir.exists() || parentDir.mkdirs()) {
+            FileUtils.writeJsonData(data, cacheFile, "UTF-8");
+        }
+    }
+
+    /**
+     * Retrieves the List of Available Discord Assets from the specified url
+     * <p>
+     * If cached data is supplied, the request is made conditional on its validators,
+     * with the cached data being returned as-is if the server reports it as unchanged
+     *
+     * @param url    The url to retrieve asset data from
+     * @param cached The previously cached asset data, if any
+     * @return the retrieved asset data, or the cached data if unchanged
+     * @throws Exception If an error occurs while retrieving the asset data
+     */
+    public static DiscordAssetCache fetchAssets(final String url, final DiscordAssetCache cached) throws Exception {
+        final boolean hasCache = cached != null && cached.getAssets() != null;
+        final Map<String, String> headers = StringUtils.newHashMap();
+        if (hasCache) {
+            if (!StringUtils.isNullOrEmpty(cached.getETag())) {
+                headers.put("If-None-Match", cached.getETag());
+            }
+            if (!StringUtils.isNullOrEmpty(cached.getLastModified())) {
+                headers.put("If-Modified-Since", cached.getLastModified());
+            }
+        }
+
+        final HttpURLConnection connection = HttpRequests.openConnection(url, headers);
+        try {
+            final int responseCode = connection.getResponseCode();
+            if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED && hasCache) {
+                return cached;
+            } else if (responseCode != HttpURLConnection.HTTP_OK) {
+                throw new IOException("Unexpected response code " + responseCode + " from " + url);
+            }
+            return new DiscordAssetCache()
+                    .setETag(connection.getHeaderField("ETag"))
+                    .setLastModified(connection.getHeaderField("Last-Modified"))
+                    .setAssets(FileUtils.getJsonData(HttpRequests.readText(connection, "UTF-8"), DiscordAsset[].class));
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Converts the specified bytes, such as an asset content hash, into a lowercase hexadecimal string
+     *
+     * @param bytes The bytes to interpret
+     * @return the resulting hexadecimal string
+     */
+    public static String toHex(final byte[] bytes) {
+        final StringBuilder result = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            result.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return result.toString();
+    }
+
+    /**
+     * Retrieves the List of Available Discord Assets from the Client ID, revalidating any cached data
+     * <p>
+     * Default Url Format: [applicationEndpoint]/[clientId]/assets
+     *
+     * @param clientId The client id to load asset data from
+     * @param cached   The previously cached asset data, if any
+     * @return the retrieved asset data, or the cached data if unchanged or unreachable
+     */
+    public static DiscordAssetCache retrieveAssets(final String clientId, final DiscordAssetCache cached) {
+        try {
+            final DiscordAssetCache data = fetchAssets(applicationEndpoint + clientId + "/assets", cached);
+            if (data != cached) {
+                writeCache(clientId, data);
+            }
+            return data;
+        } catch (Throwable ex) {
+            Constants.LOG.error(Constants.TRANSLATOR.translate("craftpresence.logger.error.discord.assets.load"));
+            Constants.LOG.debugError(ex);
+            return cached;
+        }
+    }
+
+    /**
+     * Synchronizes the specified assets as the assets to use in runtime
+     *
+     * @param clientId     The client id the asset data belongs to
+     * @param assets       The asset data to synchronize
+     * @param dynamicIcons The Dynamic Icons to sync, if supplied
+     */
+    private static synchronized void syncAssets(final String clientId, final DiscordAsset[] assets, final Map<String, String> dynamicIcons) {
+        final Map<String, DiscordAsset> newAssets = StringUtils.newHashMap();
+        if (assets != null) {
+            for (DiscordAsset asset : assets) {
+                // Ensure URL is set beforehand for non-custom Assets
+                if (asset.getType() != DiscordAsset.AssetType.CUSTOM) {
+                    asset.setUrl(getDiscordAssetUrl(clientId, asset.getId()));
+                }
+                if (!newAssets.containsKey(asset.getName())) {
+                    newAssets.put(asset.getName(), asset);
+                }
+            }
+        }
+        final Map<String, DiscordAsset> newCustomAssets = dynamicIcons != null ?
+                createCustomAssets(dynamicIcons) : index.getCustomAssets();
+        // If a Discord Icon exists with the same name, give priority to the custom one
+        newAssets.putAll(newCustomAssets);
+        publish(newAssets, newCustomAssets);
+        indexClientId = clientId;
+    }
+
     /**
      * Retrieves and Synchronizes the List of Available Discord Assets from the Client ID
      * <p>
@@ -330,37 +569,63 @@ public class DiscordAssetUtils {
         Constants.LOG.info(Constants.TRANSLATOR.translate("craftpresence.logger.info.discord.assets.load.credits"));
 
         try {
-            final String url = applicationEndpoint + clientId + "/assets";
-            final DiscordAsset[] assets = FileUtils.getJsonFromURL(url, DiscordAsset[].class);
+            final DiscordAssetCache data = retrieveAssets(clientId, readCache(clientId));
+            if (data == null) {
+                return null;
+            }
 
             if (filterToMain) {
-                // Setup Data
-                ASSET_LIST.clear();
-                if (assets != null) {
-                    for (DiscordAsset asset : assets) {
-                        // Ensure URL is set beforehand for non-custom Assets
-                        if (asset.getType() != DiscordAsset.AssetType.CUSTOM) {
-                            asset.setUrl(getDiscordAssetUrl(clientId, asset.getId()));
-                        }
-                        if (!ASSET_LIST.containsKey(asset.getName())) {
-                            ASSET_LIST.put(asset.getName(), asset);
-                        }
-                    }
-                }
-                if (dynamicIcons != null && !dynamicIcons.isEmpty()) {
-                    syncCustomAssets(dynamicIcons);
-                }
+                syncAssets(clientId, data.getAssets(), dynamicIcons);
             }
-            return assets;
-        } catch (Throwable ex) {
-            Constants.LOG.error(Constants.TRANSLATOR.translate("craftpresence.logger.error.discord.assets.load"));
-            Constants.LOG.debugError(ex);
-            return null;
+            return data.getAssets();
         } finally {
             Constants.LOG.info(Constants.TRANSLATOR.translate("craftpresence.logger.info.discord.assets.detected", String.valueOf(ASSET_LIST.size())));
         }
     }
 
+    /**
+     * Retrieves and Synchronizes the List of Available Discord Assets from the Client ID, in the background
+     * <p>
+     * Any cached asset data for the Client ID is synchronized immediately, before being revalidated
+     * against the assets endpoint, allowing assets to be available instantly (Including while offline)
+     *
+     * @param clientId     The client id to load asset data from
+     * @param dynamicIcons The Dynamic Icons to sync, if supplied
+     * @param onSync       The callback event to run each time asset data is synchronized
+     */
+    public static void loadAssetsAsync(final String clientId, final Map<String, String> dynamicIcons, final Runnable onSync) {
+        final int requestId = loadRequest.incrementAndGet();
+        final DiscordAssetCache cached = readCache(clientId);
+        if (cached != null && cached.getAssets() != null) {
+            syncAssets(clientId, cached.getAssets(), dynamicIcons);
+            Constants.LOG.info(Constants.TRANSLATOR.translate("craftpresence.logger.info.discord.assets.cached", String.valueOf(ASSET_LIST.size()), clientId));
+            if (onSync != null) {
+                onSync.run();
+            }
+        } else if (!clientId.equals(indexClientId)) {
+            // Discard the previous Client ID's assets, as they do not apply to this one
+            syncAssets(clientId, null, dynamicIcons);
+            if (onSync != null) {
+                onSync.run();
+            }
+        }
+
+        Constants.getThreadPool().execute(() -> {
+            Constants.LOG.info(Constants.TRANSLATOR.translate("craftpresence.logger.info.discord.assets.load", clientId));
+            Constants.LOG.info(Constants.TRANSLATOR.translate("craftpresence.logger.info.discord.assets.load.credits"));
+
+            final DiscordAssetCache data = retrieveAssets(clientId, cached);
+            // Only synchronize if the data has changed, and a newer load has not been requested
+            if (data != null && data != cached && requestId == loadRequest.get()) {
+                syncAssets(clientId, data.getAssets(), dynamicIcons);
+                if (onSync != null) {
+                    onSync.run();
+                }
+            }
+            Constants.LOG.info(Constants.TRANSLATOR.translate("craftpresence.logger.info.discord.assets.detected", String.valueOf(ASSET_LIST.size())));
+        });
+    }
+
     /**
      * Retrieves and Synchronizes the List of Available Discord Assets from the Client ID
      * <p>
@@ -375,24 +640,68 @@ public class DiscordAssetUtils {
     }
 
     /**
-     * Synchronize and detect any dynamic assets available for this instance
+     * Creates custom asset data from the specified dynamic icons
      *
-     * @param dynamicIcons The Dynamic Icons to sync
+     * @param dynamicIcons The Dynamic Icons to interpret
+     * @return the custom asset data for the dynamic icons
      */
-    public static void syncCustomAssets(final Map<String, String> dynamicIcons) {
-        CUSTOM_ASSET_LIST.clear();
+    private static Map<String, DiscordAsset> createCustomAssets(final Map<String, String> dynamicIcons) {
+        final Map<String, DiscordAsset> result = StringUtils.newHashMap();
         for (Map.Entry<String, String> iconData : dynamicIcons.entrySet()) {
             if (!StringUtils.isNullOrEmpty(iconData.getKey()) && !StringUtils.isNullOrEmpty(iconData.getValue())) {
                 final DiscordAsset asset = new DiscordAsset()
                         .setName(iconData.getKey())
                         .setUrl(iconData.getValue())
                         .setType(DiscordAsset.AssetType.CUSTOM);
-                if (!CUSTOM_ASSET_LIST.containsKey(asset.getName())) {
-                    CUSTOM_ASSET_LIST.put(asset.getName(), asset);
+                if (!result.containsKey(asset.getName())) {
+                    result.put(asset.getName(), asset);
                 }
-                // If a Discord Icon exists with the same name, give priority to the custom one
-                ASSET_LIST.put(asset.getName(), asset);
             }
         }
+        return result;
+    }
+
+    /**
+     * Synchronize and detect any dynamic assets available for this instance
+     *
+     * @param dynamicIcons The Dynamic Icons to sync
+     */
+    public static synchronized void syncCustomAssets(final Map<String, String> dynamicIcons) {
+        final Map<String, DiscordAsset> newCustomAssets = createCustomAssets(dynamicIcons);
+        final Map<String, DiscordAsset> newAssets = StringUtils.newHashMap(index.getAssets());
+        // If a Discord Icon exists with the same name, give priority to the custom one
+        newAssets.putAll(newCustomAssets);
+        publish(newAssets, newCustomAssets);
+    }
+
+    /**
+     * Adds the specified custom asset to the current asset set
+     *
+     * @param asset The custom asset to add
+     */
+    public static synchronized void addCustomAsset(final DiscordAsset asset) {
+        final Map<String, DiscordAsset> newCustomAssets = StringUtils.newHashMap(index.getCustomAssets());
+        final Map<String, DiscordAsset> newAssets = StringUtils.newHashMap(index.getAssets());
+        if (!newCustomAssets.containsKey(asset.getName())) {
+            newCustomAssets.put(asset.getName(), asset);
+        }
+        // If a Discord Icon exists with the same name, give priority to the custom one
+        newAssets.put(asset.getName(), asset);
+        publish(newAssets, newCustomAssets);
+    }
+
+    /**
+     * Removes the specified custom asset from the current asset set, if present
+     *
+     * @param name The name of the custom asset to remove
+     */
+    public static synchronized void removeCustomAsset(final String name) {
+        if (index.getCustomAssets().containsKey(name)) {
+            final Map<String, DiscordAsset> newCustomAssets = StringUtils.newHashMap(index.getCustomAssets());
+            final Map<String, DiscordAsset> newAssets = StringUtils.newHashMap(index.getAssets());
+            newCustomAssets.remove(name);
+            newAssets.remove(name);
+            publish(newAssets, newCustomAssets);
+        }
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.core.integrations.pack;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Set of Utilities used to Read Fields from Pack Manifest Files
+ * <p>
+ * Manifests are read as a stream, skipping over unrelated values and stopping as soon as
+ * the requested field is found, so that large manifests (Such as `minecraftinstance.json`)
+ * do not need to be read in full
+ *
+ * @author CDAGaming
+ */
+public class ManifestReader {
+    /**
+     * Retrieve the string value at the specified path within a json file
+     *
+     * @param file The file to interpret
+     * @param path The member names leading to the value, starting from the root object
+     * @return the string value, or null if not found
+     * @throws IOException If the file is unable to be read or parsed
+     */
+    public static String getString(final File file, final String... path) throws IOException {
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8))) {
+            for (String name : path) {
+                if (!findMember(reader, name)) {
+                    return null;
+                }
+            }
+
+            final JsonToken token = reader.peek();
+            if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+                return reader.nextString();
+            } else if (token == JsonToken.BOOLEAN) {
+                return Boolean.toString(reader.nextBoolean());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Advance the reader to the value of the specified member, within the next object
+     *
+     * @param reader The reader to interpret
+     * @param name   The member name to find
+     * @return {@link Boolean#TRUE} if the member was found
+     * @throws IOException If the file is unable to be read or parsed
+     */
+    private static boolean findMember(final JsonReader reader, final String name) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            return false;
+        }
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals(name)) {
+                return true;
+            }
+            reader.skipValue();
+        }
+        return false;
+    }
+}
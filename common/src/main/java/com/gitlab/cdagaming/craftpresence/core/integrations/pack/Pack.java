@@ -27,6 +27,7 @@ package com.gitlab.cdagaming.craftpresence.core.integrations.pack;
 import com.gitlab.cdagaming.craftpresence.core.Constants;
 import io.github.cdagaming.unicore.utils.StringUtils;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.nio.file.NoSuchFileException;
 import java.util.function.Supplier;
@@ -49,6 +50,10 @@ public abstract class Pack {
      * The Pack Instance Type
      */
     private String packType;
+    /**
+     * The manifest file this pack was loaded from, if any
+     */
+    private File manifest;
     /**
      * Whether this {@link Pack} instance is enabled
      */
@@ -100,6 +105,52 @@ public abstract class Pack {
      */
     public abstract boolean load();
 
+    /**
+     * Creates a detached instance of this pack type, used to probe for Instance Information
+     * without modifying the state of this instance
+     * <p>
+     * Defaults to the no-argument constructor of this type, and should be overridden by
+     * pack types that do not provide one
+     *
+     * @return a new, detached instance of this pack type
+     * @throws ReflectiveOperationException if the instance could not be created
+     */
+    protected Pack createProbe() throws ReflectiveOperationException {
+        return getClass().getDeclaredConstructor().newInstance();
+    }
+
+    /**
+     * Attempts to retrieve Instance Information on a detached instance of this pack type
+     * <p>
+     * If a detached instance cannot be created, this instance is loaded directly instead
+     *
+     * @return the loaded instance, or null if no Instance Information was found
+     */
+    public Pack probe() {
+        Pack result;
+        try {
+            result = createProbe();
+        } catch (ReflectiveOperationException ex) {
+            Constants.LOG.debugError(ex);
+            result = this;
+        }
+        return result.load() ? result : null;
+    }
+
+    /**
+     * Copies the Instance Information from the specified pack into this instance
+     *
+     * @param other The pack to copy Instance Information from
+     */
+    public void apply(final Pack other) {
+        if (other != this) {
+            this.packName = other.packName;
+            this.packIcon = other.packIcon;
+            this.packType = other.packType;
+            this.manifest = other.manifest;
+        }
+    }
+
     /**
      * Retrieve the pack instance name
      *
@@ -201,6 +252,24 @@ public abstract class Pack {
         return !StringUtils.isNullOrEmpty(packType);
     }
 
+    /**
+     * Retrieve the manifest file this pack was loaded from
+     *
+     * @return the manifest file of the pack, if any
+     */
+    public File getManifest() {
+        return manifest;
+    }
+
+    /**
+     * Set the manifest file this pack was loaded from
+     *
+     * @param manifest the new manifest file
+     */
+    public void setManifest(final File manifest) {
+        this.manifest = manifest;
+    }
+
     /**
      * Whether to display the specified pack exception
      *
@@ -0,0 +1,187 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.core.integrations.pack;
+
+import com.google.gson.annotations.Expose;
+import com.google.gson.annotations.SerializedName;
+
+import java.util.List;
+
+/**
+ * The Json Parsing Syntax for cached Pack Detection Data
+ * <p>
+ * Stores the detected pack for an instance, alongside the manifest state needed to revalidate it
+ *
+ * @author CDAGaming
+ */
+public class PackCache {
+    /**
+     * The instance path the pack was detected in
+     */
+    @SerializedName("instancePath")
+    @Expose
+    private String instancePath;
+
+    /**
+     * The pack module type that detected the pack
+     */
+    @SerializedName("type")
+    @Expose
+    private String type;
+
+    /**
+     * The enabled pack module types, in priority order, when the pack was detected
+     */
+    @SerializedName("enabledTypes")
+    @Expose
+    private List<String> enabledTypes;
+
+    /**
+     * The detected pack name
+     */
+    @SerializedName("name")
+    @Expose
+    private String name;
+
+    /**
+     * The detected pack icon key
+     */
+    @SerializedName("icon")
+    @Expose
+    private String icon;
+
+    /**
+     * The detected pack instance type, if any
+     */
+    @SerializedName("packType")
+    @Expose
+    private String packType;
+
+    /**
+     * The manifest file the pack was loaded from
+     */
+    @SerializedName("manifestPath")
+    @Expose
+    private String manifestPath;
+
+    /**
+     * The last modified time of the manifest file, when the pack was loaded
+     */
+    @SerializedName("manifestModified")
+    @Expose
+    private long manifestModified;
+
+    /**
+     * Initializes a new cache entry for the specified pack
+     *
+     * @param instancePath The instance path the pack was detected in
+     * @param type         The pack module type that detected the pack
+     * @param enabledTypes The enabled pack module types, in priority order
+     * @param pack         The detected pack
+     */
+    public PackCache(final String instancePath, final String type, final List<String> enabledTypes, final Pack pack) {
+        this.instancePath = instancePath;
+        this.type = type;
+        this.enabledTypes = enabledTypes;
+        this.name = pack.getPackName();
+        this.icon = pack.getPackIcon();
+        this.packType = pack.getPackType();
+        this.manifestPath = pack.getManifest().getAbsolutePath();
+        this.manifestModified = pack.getManifest().lastModified();
+    }
+
+    /**
+     * Retrieves the instance path the pack was detected in
+     *
+     * @return The instance path the pack was detected in
+     */
+    public String getInstancePath() {
+        return instancePath;
+    }
+
+    /**
+     * Retrieves the pack module type that detected the pack
+     *
+     * @return The pack module type that detected the pack
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Retrieves the enabled pack module types, in priority order, when the pack was detected
+     *
+     * @return The enabled pack module types
+     */
+    public List<String> getEnabledTypes() {
+        return enabledTypes;
+    }
+
+    /**
+     * Retrieves the detected pack name
+     *
+     * @return The detected pack name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves the detected pack icon key
+     *
+     * @return The detected pack icon key
+     */
+    public String getIcon() {
+        return icon;
+    }
+
+    /**
+     * Retrieves the detected pack instance type, if any
+     *
+     * @return The detected pack instance type
+     */
+    public String getPackType() {
+        return packType;
+    }
+
+    /**
+     * Retrieves the manifest file the pack was loaded from
+     *
+     * @return The manifest file path
+     */
+    public String getManifestPath() {
+        return manifestPath;
+    }
+
+    /**
+     * Retrieves the last modified time of the manifest file, when the pack was loaded
+     *
+     * @return The last modified time of the manifest file
+     */
+    public long getManifestModified() {
+        return manifestModified;
+    }
+}
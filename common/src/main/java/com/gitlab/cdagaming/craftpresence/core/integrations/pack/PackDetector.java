@@ -0,0 +1,221 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.core.integrations.pack;
+
+import com.gitlab.cdagaming.craftpresence.core.Constants;
+import io.github.cdagaming.unicore.utils.FileUtils;
+import io.github.cdagaming.unicore.utils.OSUtils;
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Set of Utilities used to Detect the active {@link Pack} Instance
+ * <p>
+ * Enabled packs are probed concurrently, with the first pack in priority order
+ * that loads successfully being used, and any remaining probes cancelled.
+ * Results are cached on disk, keyed by instance path, enabled modules and manifest modification time,
+ * with higher-priority packs still being probed before a cached result is used
+ *
+ * @author CDAGaming
+ */
+public class PackDetector {
+    /**
+     * The maximum time to wait for pack detection, in milliseconds
+     */
+    public static final long DETECTION_TIMEOUT = 5000L;
+    /**
+     * The cache file used to store the detected pack
+     */
+    private static final File cacheFile = new File(Constants.configDir + File.separator + Constants.MOD_ID + File.separator + "cache" + File.separator + "pack.json");
+
+    /**
+     * Detect the active pack from the specified modules
+     * <p>
+     * If a cached pack is still valid, only the modules with a higher priority than it are probed,
+     * with the cached pack being used if none of them load successfully
+     *
+     * @param packs The pack modules to interpret, in priority order
+     * @return the detected pack entry, or null if none found
+     */
+    public static Map.Entry<String, Pack> detect(final Map<String, Pack> packs) {
+        final List<String> enabledTypes = StringUtils.newArrayList();
+        for (Map.Entry<String, Pack> pack : packs.entrySet()) {
+            if (pack.getValue().isEnabled()) {
+                enabledTypes.add(pack.getKey());
+            }
+        }
+
+        final PackCache cached = readCache(enabledTypes);
+        final List<String> probeTypes = cached != null ?
+                enabledTypes.subList(0, enabledTypes.indexOf(cached.getType())) :
+                enabledTypes;
+
+        final Map.Entry<String, Pack> result = probe(packs, probeTypes);
+        if (result != null) {
+            if (result.getValue().getManifest() != null) {
+                writeCache(new PackCache(OSUtils.USER_DIR, result.getKey(), enabledTypes, result.getValue()));
+            }
+            return result;
+        }
+        return cached != null ? applyCache(packs, cached) : null;
+    }
+
+    /**
+     * Probe the specified pack modules concurrently, using the first that loads successfully in priority order
+     * <p>
+     * Probes are logged in priority order as their results are used, and probes after the first success are cancelled without being logged
+     *
+     * @param packs      The pack modules to interpret, in priority order
+     * @param probeTypes The pack module types to probe, in priority order
+     * @return the detected pack entry, or null if none found
+     */
+    private static Map.Entry<String, Pack> probe(final Map<String, Pack> packs, final List<String> probeTypes) {
+        if (probeTypes.isEmpty()) {
+            return null;
+        }
+
+        // Each task probes a detached instance, so that cancelled probes cannot modify the shared modules
+        final Map<String, Future<Pack>> tasks = StringUtils.newLinkedHashMap();
+        final ExecutorService executor = Executors.newCachedThreadPool(Constants.getThreadFactory());
+        Map.Entry<String, Pack> result = null;
+        try {
+            for (String type : probeTypes) {
+                tasks.put(type, executor.submit(packs.get(type)::probe));
+            }
+
+            final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DETECTION_TIMEOUT);
+            for (Map.Entry<String, Pack> pack : packs.entrySet()) {
+                final String type = pack.getKey();
+                final Future<Pack> future = tasks.get(type);
+                if (future == null) {
+                    continue;
+                } else if (result != null) {
+                    future.cancel(true);
+                    continue;
+                }
+
+                Constants.LOG.info(Constants.TRANSLATOR.translate("craftpresence.logger.info.pack.init", type));
+                Pack loaded = null;
+                try {
+                    loaded = future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException | ExecutionException ex) {
+                    future.cancel(true);
+                    Constants.LOG.debugError(ex);
+                } catch (InterruptedException ex) {
+                    future.cancel(true);
+                    Thread.currentThread().interrupt();
+                }
+
+                if (loaded != null) {
+                    final Pack data = pack.getValue();
+                    data.apply(loaded);
+                    Constants.LOG.info(Constants.TRANSLATOR.translate("craftpresence.logger.info.pack.loaded", type, data.getPackName(), data.getPackIcon()));
+                    result = pack;
+                } else {
+                    Constants.LOG.error(Constants.TRANSLATOR.translate("craftpresence.logger.error.pack", type));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return result;
+    }
+
+    /**
+     * Retrieves the cached pack for this instance, if it is still valid
+     * <p>
+     * The cache is only valid when the enabled pack modules match those at the time of detection,
+     * and the manifest it was loaded from is unchanged
+     *
+     * @param enabledTypes The enabled pack module types, in priority order
+     * @return the cached pack data, or null if unavailable
+     */
+    private static PackCache readCache(final List<String> enabledTypes) {
+        if (!cacheFile.exists()) {
+            return null;
+        }
+
+        try {
+            final PackCache data = FileUtils.getJsonData(cacheFile, PackCache.class);
+            if (data == null || !OSUtils.USER_DIR.equals(data.getInstancePath()) ||
+                    !enabledTypes.equals(data.getEnabledTypes()) || !enabledTypes.contains(data.getType()) ||
+                    StringUtils.isNullOrEmpty(data.getName()) || StringUtils.isNullOrEmpty(data.getManifestPath())) {
+                return null;
+            }
+
+            final File manifest = new File(data.getManifestPath());
+            if (manifest.exists() && manifest.lastModified() == data.getManifestModified()) {
+                return data;
+            }
+        } catch (Throwable ex) {
+            Constants.LOG.debugError(ex);
+        }
+        return null;
+    }
+
+    /**
+     * Applies the specified cached pack data to its pack module
+     *
+     * @param packs The pack modules to interpret
+     * @param data  The cached pack data to apply
+     * @return the cached pack entry, or null if its module is unavailable
+     */
+    private static Map.Entry<String, Pack> applyCache(final Map<String, Pack> packs, final PackCache data) {
+        for (Map.Entry<String, Pack> entry : packs.entrySet()) {
+            if (entry.getKey().equals(data.getType())) {
+                final Pack pack = entry.getValue();
+                Constants.LOG.info(Constants.TRANSLATOR.translate("craftpresence.logger.info.pack.init", entry.getKey()));
+                pack.setPackType(data.getPackType());
+                pack.setPackData(data.getName(), data.getIcon());
+                pack.setManifest(new File(data.getManifestPath()));
+                Constants.LOG.info(Constants.TRANSLATOR.translate("craftpresence.logger.info.pack.loaded", entry.getKey(), pack.getPackName(), pack.getPackIcon()));
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stores the specified pack as the cached pack for this instance
+     *
+     * @param data The pack data to store
+     */
+    private static void writeCache(final PackCache data) {
+        final File parentDir = cacheFile.getParentFile();
+        if (parentDir.exists() || parentDir.mkdirs()) {
+            FileUtils.writeJsonData(data, cacheFile, "UTF-8");
+        }
+    }
+}
@@ -24,9 +24,8 @@
 
 package com.gitlab.cdagaming.craftpresence.core.integrations.pack.atlauncher;
 
+import com.gitlab.cdagaming.craftpresence.core.integrations.pack.ManifestReader;
 import com.gitlab.cdagaming.craftpresence.core.integrations.pack.Pack;
-import com.google.gson.JsonElement;
-import io.github.cdagaming.unicore.utils.FileUtils;
 
 import java.io.File;
 import java.util.function.Supplier;
@@ -51,12 +50,9 @@ public class ATLauncherUtils extends Pack {
         if (packLocation.exists()) {
             try {
                 setPackData(
-                        FileUtils.getJsonData(packLocation, JsonElement.class)
-                                .getAsJsonObject()
-                                .getAsJsonObject("launcher")
-                                .getAsJsonPrimitive("name")
-                                .getAsString()
+                        ManifestReader.getString(packLocation, "launcher", "name")
                 );
+                setManifest(packLocation);
             } catch (Exception ex) {
                 printException(ex);
             }
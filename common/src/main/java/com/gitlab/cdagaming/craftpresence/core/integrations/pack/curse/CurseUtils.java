@@ -24,9 +24,8 @@
 
 package com.gitlab.cdagaming.craftpresence.core.integrations.pack.curse;
 
+import com.gitlab.cdagaming.craftpresence.core.integrations.pack.ManifestReader;
 import com.gitlab.cdagaming.craftpresence.core.integrations.pack.Pack;
-import com.google.gson.JsonElement;
-import io.github.cdagaming.unicore.utils.FileUtils;
 
 import java.io.File;
 import java.util.function.Supplier;
@@ -69,11 +68,9 @@ public class CurseUtils extends Pack {
         if (packLocation.exists()) {
             try {
                 setPackData(
-                        FileUtils.getJsonData(packLocation, JsonElement.class)
-                                .getAsJsonObject()
-                                .getAsJsonPrimitive("name")
-                                .getAsString()
+                        ManifestReader.getString(packLocation, "name")
                 );
+                setManifest(packLocation);
             } catch (Exception ex) {
                 printException(ex);
             }
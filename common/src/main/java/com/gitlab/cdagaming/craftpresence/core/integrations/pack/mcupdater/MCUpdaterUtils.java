@@ -24,9 +24,8 @@
 
 package com.gitlab.cdagaming.craftpresence.core.integrations.pack.mcupdater;
 
+import com.gitlab.cdagaming.craftpresence.core.integrations.pack.ManifestReader;
 import com.gitlab.cdagaming.craftpresence.core.integrations.pack.Pack;
-import com.google.gson.JsonElement;
-import io.github.cdagaming.unicore.utils.FileUtils;
 
 import java.io.File;
 import java.util.function.Supplier;
@@ -56,11 +55,9 @@ public class MCUpdaterUtils extends Pack {
         if (packLocation.exists()) {
             try {
                 setPackData(
-                        FileUtils.getJsonData(packLocation, JsonElement.class)
-                                .getAsJsonObject()
-                                .getAsJsonPrimitive("packName")
-                                .getAsString()
+                        ManifestReader.getString(packLocation, "packName")
                 );
+                setManifest(packLocation);
             } catch (Exception ex) {
                 printException(ex);
             }
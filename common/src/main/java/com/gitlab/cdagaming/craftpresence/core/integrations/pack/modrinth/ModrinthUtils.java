@@ -24,9 +24,8 @@
 
 package com.gitlab.cdagaming.craftpresence.core.integrations.pack.modrinth;
 
+import com.gitlab.cdagaming.craftpresence.core.integrations.pack.ManifestReader;
 import com.gitlab.cdagaming.craftpresence.core.integrations.pack.Pack;
-import com.google.gson.JsonElement;
-import io.github.cdagaming.unicore.utils.FileUtils;
 
 import java.io.File;
 import java.util.Properties;
@@ -88,12 +87,9 @@ public class ModrinthUtils extends Pack {
         if (packLocation.exists()) {
             try {
                 setPackData(
-                        FileUtils.getJsonData(packLocation, JsonElement.class)
-                                .getAsJsonObject()
-                                .getAsJsonObject("metadata")
-                                .getAsJsonPrimitive("name")
-                                .getAsString()
+                        ManifestReader.getString(packLocation, "metadata", "name")
                 );
+                setManifest(packLocation);
             } catch (Exception ex) {
                 printException(ex);
             }
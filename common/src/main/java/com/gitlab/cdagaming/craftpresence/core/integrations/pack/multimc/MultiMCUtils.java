@@ -139,6 +139,7 @@ public class MultiMCUtils extends Pack {
                         configFile.getProperty("iconKey")
                 );
                 setPackType(getLauncherType());
+                setManifest(instanceFile.toFile());
             } catch (Exception ex) {
                 printException(ex);
             }
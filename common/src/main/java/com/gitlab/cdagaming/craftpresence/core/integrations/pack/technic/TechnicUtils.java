@@ -24,9 +24,8 @@
 
 package com.gitlab.cdagaming.craftpresence.core.integrations.pack.technic;
 
+import com.gitlab.cdagaming.craftpresence.core.integrations.pack.ManifestReader;
 import com.gitlab.cdagaming.craftpresence.core.integrations.pack.Pack;
-import com.google.gson.JsonElement;
-import io.github.cdagaming.unicore.utils.FileUtils;
 import io.github.cdagaming.unicore.utils.OSUtils;
 
 import java.io.File;
@@ -56,13 +55,11 @@ public class TechnicUtils extends Pack {
 
         if (packLocation.exists()) {
             try {
-                final String selected = FileUtils.getJsonData(packLocation, JsonElement.class)
-                        .getAsJsonObject()
-                        .getAsJsonPrimitive("selected")
-                        .getAsString();
+                final String selected = ManifestReader.getString(packLocation, "selected");
 
-                if (OSUtils.USER_DIR.contains(selected)) {
+                if (selected != null && OSUtils.USER_DIR.contains(selected)) {
                     setPackData(selected);
+                    setManifest(packLocation);
                 }
             } catch (Exception ex) {
                 printException(ex);
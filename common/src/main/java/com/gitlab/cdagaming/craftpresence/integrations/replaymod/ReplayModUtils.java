@@ -25,9 +25,10 @@
 package com.gitlab.cdagaming.craftpresence.integrations.replaymod;
 
 import com.gitlab.cdagaming.craftpresence.CraftPresence;
-import com.gitlab.cdagaming.craftpresence.core.config.Config;
 import com.gitlab.cdagaming.craftpresence.core.config.element.ModuleData;
 import com.gitlab.cdagaming.craftpresence.core.impl.ExtendedModule;
+import com.gitlab.cdagaming.craftpresence.core.impl.ModuleDataResolver;
+import com.gitlab.cdagaming.craftpresence.core.impl.ResolvedModuleData;
 import io.github.cdagaming.unicore.utils.FileUtils;
 import io.github.cdagaming.unicore.utils.MappingUtils;
 import io.github.cdagaming.unicore.utils.StringUtils;
@@ -46,6 +47,10 @@ import java.util.function.Supplier;
  */
 @SuppressWarnings("DuplicatedCode")
 public class ReplayModUtils implements ExtendedModule {
+    /**
+     * The config paths that affect this module's data, shared with the inherited module
+     */
+    private static final List<String> CONFIG_PATHS = StringUtils.newArrayList("advancedSettings.guiSettings", "advancedSettings.enablePerGui");
     /**
      * Whether this module is allowed to start and enabled
      */
@@ -82,6 +87,10 @@ public class ReplayModUtils implements ExtendedModule {
      * The Current Instance of the Gui the player is in
      */
     private Object CURRENT_SCREEN;
+    /**
+     * The resolver for the current screen's module data
+     */
+    private final ModuleDataResolver resolver = new ModuleDataResolver(this);
 
     @Override
     public void clearAttributes() {
@@ -96,6 +105,11 @@ public class ReplayModUtils implements ExtendedModule {
         otherModuleState = false;
     }
 
+    @Override
+    public void invalidateData() {
+        resolver.invalidate();
+    }
+
     @Override
     public void updateData() {
         if (CraftPresence.GUIS.CURRENT_SCREEN == null) {
@@ -167,6 +181,11 @@ public class ReplayModUtils implements ExtendedModule {
         }
     }
 
+    @Override
+    public List<String> getConfigPaths() {
+        return CONFIG_PATHS;
+    }
+
     @Override
     public void getConfigData() {
         // N/A
@@ -240,21 +259,15 @@ public class ReplayModUtils implements ExtendedModule {
         syncArgument("screen.name", () -> CURRENT_GUI_NAME, true);
 
         syncArgument("screen.message", () -> {
-            final ModuleData defaultData = getDefaultData();
-            final ModuleData currentData = getData(CURRENT_GUI_NAME);
-
-            final String defaultMessage = Config.isValidProperty(defaultData, "textOverride") ? defaultData.getTextOverride() : "";
-            return getResult(Config.isValidProperty(currentData, "textOverride") ? currentData.getTextOverride() : defaultMessage, CURRENT_GUI_NAME);
+            final ResolvedModuleData resolvedData = resolver.resolve(CURRENT_GUI_NAME);
+            return getResult(resolvedData.getTextOverride(""), resolvedData.data());
         });
         syncArgument("screen.icon", () -> {
-            final ModuleData defaultData = getDefaultData();
-            final ModuleData currentData = getData(CURRENT_GUI_NAME);
-
-            final String defaultIcon = Config.isValidProperty(defaultData, "iconOverride") ? defaultData.getIconOverride() : CURRENT_GUI_NAME;
-            final String currentIcon = Config.isValidProperty(currentData, "iconOverride") ? currentData.getIconOverride() : defaultIcon;
-            return getResult(CraftPresence.CLIENT.imageOf(true, currentIcon, CraftPresence.CONFIG.advancedSettings.guiSettings.fallbackGuiIcon), CURRENT_GUI_NAME);
+            final ResolvedModuleData resolvedData = resolver.resolve(CURRENT_GUI_NAME);
+            final String currentIcon = resolvedData.getIconOverride(CURRENT_GUI_NAME);
+            return getResult(CraftPresence.CLIENT.imageOf(true, currentIcon, CraftPresence.CONFIG.advancedSettings.guiSettings.fallbackGuiIcon), resolvedData.data());
         });
-        CraftPresence.CLIENT.addForcedData("screen", () -> isInUse() ? getPresenceData(CURRENT_GUI_NAME) : null);
+        CraftPresence.CLIENT.addForcedData("screen", () -> isInUse() ? resolver.resolve(CURRENT_GUI_NAME).presenceData() : null);
         CraftPresence.CLIENT.syncTimestamp("data.screen.time");
     }
 
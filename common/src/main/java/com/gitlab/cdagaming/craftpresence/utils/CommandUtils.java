@@ -28,10 +28,15 @@ import com.gitlab.cdagaming.craftpresence.CraftPresence;
 import com.gitlab.cdagaming.craftpresence.config.gui.MainGui;
 import com.gitlab.cdagaming.craftpresence.core.Constants;
 import com.gitlab.cdagaming.craftpresence.core.config.Config;
+import com.gitlab.cdagaming.craftpresence.core.config.ConfigChange;
+import com.gitlab.cdagaming.craftpresence.core.config.ConfigDiff;
+import com.gitlab.cdagaming.craftpresence.core.config.ConfigWatcher;
 import com.gitlab.cdagaming.craftpresence.core.config.element.ModuleData;
 import com.gitlab.cdagaming.craftpresence.core.config.element.PresenceData;
 import com.gitlab.cdagaming.craftpresence.core.impl.Module;
+import com.gitlab.cdagaming.craftpresence.core.integrations.discord.assets.DiscordAssetUtils;
 import com.gitlab.cdagaming.craftpresence.core.integrations.pack.Pack;
+import com.gitlab.cdagaming.craftpresence.core.integrations.pack.PackDetector;
 import com.gitlab.cdagaming.craftpresence.core.integrations.pack.atlauncher.ATLauncherUtils;
 import com.gitlab.cdagaming.craftpresence.core.integrations.pack.curse.CurseUtils;
 import com.gitlab.cdagaming.craftpresence.core.integrations.pack.mcupdater.MCUpdaterUtils;
@@ -53,6 +58,7 @@ import io.github.cdagaming.unicore.impl.TreeMapBuilder;
 import io.github.cdagaming.unicore.utils.FileUtils;
 import io.github.cdagaming.unicore.utils.StringUtils;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -61,6 +67,33 @@ import java.util.Map;
  * @author CDAGaming
  */
 public class CommandUtils {
+    /**
+     * The config paths that require the RPC to be restarted when changed
+     */
+    private static final List<String> REBOOT_PATHS = StringUtils.newArrayList(
+            "generalSettings.clientId",
+            "generalSettings.preferredClientLevel",
+            "generalSettings.resetTimeOnInit",
+            "generalSettings.autoRegister",
+            "advancedSettings.allowDuplicatePackets",
+            "advancedSettings.maxConnectionAttempts"
+    );
+    /**
+     * The config paths that are fully handled by {@link CommandUtils#applyData(Config, Config)},
+     * and do not require presence data to be refreshed when changed
+     */
+    private static final List<String> HANDLED_PATHS = StringUtils.newArrayList(
+            "accessibilitySettings",
+            "advancedSettings.debugMode",
+            "advancedSettings.verboseMode",
+            "advancedSettings.refreshRate",
+            "advancedSettings.enableClassGraph",
+            "displaySettings.dynamicVariables"
+    );
+    /**
+     * A snapshot of the most recently applied config data, used as the baseline for {@link CommandUtils#applySettings(Config)}
+     */
+    private static Config appliedConfig = null;
     /**
      * A mapping of the currently loaded Rich Presence Modules
      */
@@ -291,6 +324,21 @@ public class CommandUtils {
         CraftPresence.CLIENT.onTick();
     }
 
+    /**
+     * Apply Data, based on the differences between the specified config data and the last applied config data
+     * <p>
+     * If no config data has been applied yet, the specified data only becomes the new baseline
+     *
+     * @param current The current config data
+     */
+    public static void applySettings(final Config current) {
+        final Config old = appliedConfig;
+        appliedConfig = current.copy();
+        if (old != null) {
+            applyData(current, old);
+        }
+    }
+
     /**
      * Apply Data, based on the differences in the specified arguments
      *
@@ -298,47 +346,114 @@ public class CommandUtils {
      * @param old     The old config data
      */
     public static void applyData(final Config current, final Config old) {
-        boolean needsReboot = false;
-        if (!current.generalSettings.clientId.equals(old.generalSettings.clientId)) {
-            needsReboot = true; // Client ID changed
-        } else if (current.generalSettings.preferredClientLevel != old.generalSettings.preferredClientLevel) {
-            needsReboot = true; // Preferred Client Level changed
-        } else if (current.generalSettings.resetTimeOnInit != old.generalSettings.resetTimeOnInit) {
-            needsReboot = true; // Reset Time On Init changed
-        } else if (current.generalSettings.autoRegister != old.generalSettings.autoRegister) {
-            needsReboot = true; // Auto Register changed
-        } else if (!current.accessibilitySettings.languageId.equals(old.accessibilitySettings.languageId)) {
+        final List<ConfigChange> changes = ConfigDiff.compare(old, current);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        final List<ConfigChange> rebootChanges = ConfigDiff.filter(changes, REBOOT_PATHS);
+        final boolean needsReboot = !rebootChanges.isEmpty();
+
+        // Changes not handled below, or by any module, fall back to a full presence refresh
+        final List<ConfigChange> unhandledChanges = StringUtils.newArrayList(changes);
+        unhandledChanges.removeAll(rebootChanges);
+        unhandledChanges.removeAll(ConfigDiff.filter(changes, HANDLED_PATHS));
+
+        if (ConfigDiff.hasChanged(changes, "accessibilitySettings.languageId")) {
             Constants.TRANSLATOR.syncTranslations(); // Fallback Language ID Changed
-        } else if (current.advancedSettings.allowDuplicatePackets != old.advancedSettings.allowDuplicatePackets) {
-            needsReboot = true; // Allow Duplicate Packets changed
-        } else if (current.advancedSettings.maxConnectionAttempts != old.advancedSettings.maxConnectionAttempts) {
-            needsReboot = true; // Max Connection Attempts changed
         }
 
-        if (current.advancedSettings.debugMode != old.advancedSettings.debugMode ||
-                current.advancedSettings.verboseMode != old.advancedSettings.verboseMode ||
-                current.advancedSettings.refreshRate != old.advancedSettings.refreshRate) {
+        if (ConfigDiff.hasChanged(changes, "advancedSettings.debugMode", "advancedSettings.verboseMode", "advancedSettings.refreshRate")) {
             updateModes(); // Debug Mode, Verbose Mode, Refresh Rate changed
         }
 
-        if (current.advancedSettings.enableClassGraph != old.advancedSettings.enableClassGraph) {
+        if (ConfigDiff.hasChanged(changes, "advancedSettings.enableClassGraph")) {
             setupClassScan(true); // Enable Class Graph changed
         }
 
-        if (current.displaySettings.dynamicVariables != old.displaySettings.dynamicVariables) {
+        if (ConfigDiff.hasChanged(changes, "displaySettings.dynamicVariables")) {
             syncDynamicVariables(old.displaySettings.dynamicVariables); // Dynamic Variables changed
         }
 
-        if (current.accessibilitySettings.stripTranslationColors != old.accessibilitySettings.stripTranslationColors) {
+        if (ConfigDiff.hasChanged(changes, "accessibilitySettings.stripTranslationColors")) {
             Constants.TRANSLATOR.setStripColors(current.accessibilitySettings.stripTranslationColors); // Strip Translation Colors changed
         }
-        if (current.accessibilitySettings.stripTranslationFormatting != old.accessibilitySettings.stripTranslationFormatting) {
+        if (ConfigDiff.hasChanged(changes, "accessibilitySettings.stripTranslationFormatting")) {
             Constants.TRANSLATOR.setStripFormatting(current.accessibilitySettings.stripTranslationFormatting); // Strip Translation Formatting changed
         }
 
+        // Notify modules of changes to the config paths they depend on
+        final List<Module> changedModules = StringUtils.newArrayList();
+        for (Module module : modules.values()) {
+            final List<ConfigChange> moduleChanges = ConfigDiff.filter(changes, module.getConfigPaths());
+            if (!moduleChanges.isEmpty()) {
+                module.onConfigChange(moduleChanges);
+                changedModules.add(module);
+                unhandledChanges.removeAll(moduleChanges);
+            }
+        }
+
         if (needsReboot) {
             setupRPC();
         }
+        if (!unhandledChanges.isEmpty()) {
+            reloadData(true);
+        } else if (!changedModules.isEmpty()) {
+            reloadModules(changedModules);
+        }
+    }
+
+    /**
+     * Refreshes the specified modules, updating RPC Data for any that are in use
+     *
+     * @param targets The modules to refresh
+     */
+    private static void reloadModules(final List<Module> targets) {
+        CraftPresence.SCHEDULER.TICK_LOCK.lock();
+        try {
+            for (Module module : targets) {
+                if (module.canBeLoaded()) {
+                    module.onTick();
+                    if (module.isInUse()) {
+                        module.updatePresence();
+                    }
+                }
+            }
+        } catch (Throwable ex) {
+            Constants.LOG.error(Constants.TRANSLATOR.translate("craftpresence.logger.error.module"));
+            Constants.LOG.debugError(ex);
+        } finally {
+            CraftPresence.SCHEDULER.TICK_LOCK.unlock();
+        }
+    }
+
+    /**
+     * Applies any external changes made to the config file, limited to the categories that changed
+     * <p>
+     * Changes are held until any unsaved changes to the current config data are resolved
+     */
+    public static void syncConfigChanges() {
+        if (CraftPresence.CONFIG == null || CraftPresence.CONFIG.hasChanged()) {
+            return;
+        }
+
+        final Config external = ConfigWatcher.poll();
+        if (external != null) {
+            final List<String> changes = CraftPresence.CONFIG.getChangedCategories(external);
+            if (!changes.isEmpty()) {
+                Constants.LOG.info(Constants.TRANSLATOR.translate("craftpresence.logger.info.config.reload", changes.toString()));
+
+                final Config old = CraftPresence.CONFIG.copy();
+                for (String name : changes) {
+                    CraftPresence.CONFIG.setProperty(name, external.getProperty(name));
+                }
+                if (changes.contains("displaySettings")) {
+                    DiscordAssetUtils.syncCustomAssets(CraftPresence.CONFIG.displaySettings.dynamicIcons);
+                }
+                // Presence data is refreshed by applyData, based on which properties changed
+                CraftPresence.CONFIG.applyFrom(old);
+            }
+        }
     }
 
     /**
@@ -430,6 +545,7 @@ public class CommandUtils {
      * Initializes Essential Module Data
      */
     public static void init() {
+        appliedConfig = CraftPresence.CONFIG.copy();
         updateModes();
 
         addModule(Constants.MOD_ID, new TranslationManager(
@@ -447,20 +563,7 @@ public class CommandUtils {
                         ))
         ));
 
-        for (Map.Entry<String, Pack> pack : packModules.entrySet()) {
-            final String type = pack.getKey();
-            final Pack data = pack.getValue();
-            if (data.isEnabled()) {
-                Constants.LOG.info(Constants.TRANSLATOR.translate("craftpresence.logger.info.pack.init", type));
-                if (data.load()) {
-                    Constants.LOG.info(Constants.TRANSLATOR.translate("craftpresence.logger.info.pack.loaded", type, data.getPackName(), data.getPackIcon()));
-                    loadedPack = pack;
-                    break; // Only iterate until the first pack is found
-                } else {
-                    Constants.LOG.error(Constants.TRANSLATOR.translate("craftpresence.logger.error.pack", type));
-                }
-            }
-        }
+        loadedPack = PackDetector.detect(packModules);
         registerKeybinds();
 
         // Setup Mod Integrations that are not Platform-Dependent
@@ -25,9 +25,10 @@
 package com.gitlab.cdagaming.craftpresence.utils.entity;
 
 import com.gitlab.cdagaming.craftpresence.CraftPresence;
-import com.gitlab.cdagaming.craftpresence.core.config.Config;
 import com.gitlab.cdagaming.craftpresence.core.config.element.ModuleData;
 import com.gitlab.cdagaming.craftpresence.core.impl.ExtendedModule;
+import com.gitlab.cdagaming.craftpresence.core.impl.ModuleDataResolver;
+import com.gitlab.cdagaming.craftpresence.core.impl.ResolvedModuleData;
 import com.gitlab.cdagaming.unilib.utils.WorldUtils;
 import io.github.cdagaming.unicore.utils.StringUtils;
 import net.minecraft.client.network.NetworkPlayerInfo;
@@ -47,6 +48,10 @@ import java.util.function.Supplier;
  */
 @SuppressWarnings("DuplicatedCode")
 public class EntityUtils implements ExtendedModule {
+    /**
+     * The config paths this module depends on
+     */
+    private static final List<String> CONFIG_PATHS = StringUtils.newArrayList("advancedSettings.entitySettings", "advancedSettings.enablePerEntity");
     /**
      * A List of the detected Entity Names
      */
@@ -103,6 +108,14 @@ public class EntityUtils implements ExtendedModule {
      * The Player's Current Riding Entity, if any
      */
     private Entity CURRENT_RIDING;
+    /**
+     * The resolver for the current target entity's module data
+     */
+    private final ModuleDataResolver targetResolver = new ModuleDataResolver(key -> CraftPresence.CONFIG.advancedSettings.entitySettings.targetData.get(key), getDefaultId());
+    /**
+     * The resolver for the current riding entity's module data
+     */
+    private final ModuleDataResolver ridingResolver = new ModuleDataResolver(key -> CraftPresence.CONFIG.advancedSettings.entitySettings.ridingData.get(key), getDefaultId());
 
     @Override
     public void clearFieldData() {
@@ -127,6 +140,12 @@ public class EntityUtils implements ExtendedModule {
         hasInitializedRiding = false;
     }
 
+    @Override
+    public void invalidateData() {
+        targetResolver.invalidate();
+        ridingResolver.invalidate();
+    }
+
     @Override
     public void updateData() {
         final Entity NEW_CURRENT_TARGET = CraftPresence.instance.objectMouseOver != null && CraftPresence.instance.objectMouseOver.entityHit != null ? CraftPresence.instance.objectMouseOver.entityHit : null;
@@ -191,26 +210,17 @@ public class EntityUtils implements ExtendedModule {
                 syncArgument("entity.target.name", () -> CURRENT_TARGET != null, () -> CURRENT_TARGET_NAME, true);
 
                 syncArgument("entity.target.message", () -> CURRENT_TARGET != null, () -> {
-                    final ModuleData defaultData = CraftPresence.CONFIG.advancedSettings.entitySettings.targetData.get("default");
-                    final ModuleData currentData = CraftPresence.CONFIG.advancedSettings.entitySettings.targetData.get(CURRENT_TARGET_NAME);
-
-                    final String defaultMessage = Config.isValidProperty(defaultData, "textOverride") ? defaultData.getTextOverride() : "";
-                    return getResult(Config.isValidProperty(currentData, "textOverride") ? currentData.getTextOverride() : defaultMessage, currentData != null ? currentData : defaultData);
+                    final ResolvedModuleData resolvedData = targetResolver.resolve(CURRENT_TARGET_NAME);
+                    return getResult(resolvedData.getTextOverride(""), resolvedData.data());
                 });
                 syncArgument("entity.target.icon", () -> CURRENT_TARGET != null, () -> {
-                    final ModuleData defaultData = CraftPresence.CONFIG.advancedSettings.entitySettings.targetData.get("default");
-                    final ModuleData currentData = CraftPresence.CONFIG.advancedSettings.entitySettings.targetData.get(CURRENT_TARGET_NAME);
-
-                    final String defaultIcon = Config.isValidProperty(defaultData, "iconOverride") ? defaultData.getIconOverride() : CURRENT_TARGET_NAME;
-                    final String currentIcon = Config.isValidProperty(currentData, "iconOverride") ? currentData.getIconOverride() : defaultIcon;
-                    return getResult(CraftPresence.CLIENT.imageOf(true, currentIcon, CraftPresence.CONFIG.advancedSettings.entitySettings.fallbackEntityIcon), currentData != null ? currentData : defaultData);
+                    final ResolvedModuleData resolvedData = targetResolver.resolve(CURRENT_TARGET_NAME);
+                    final String currentIcon = resolvedData.getIconOverride(CURRENT_TARGET_NAME);
+                    return getResult(CraftPresence.CLIENT.imageOf(true, currentIcon, CraftPresence.CONFIG.advancedSettings.entitySettings.fallbackEntityIcon), resolvedData.data());
                 });
                 CraftPresence.CLIENT.addForcedData("entity.target", () -> {
                     if (!isInUse() || CURRENT_TARGET == null) return null;
-
-                    final ModuleData defaultData = CraftPresence.CONFIG.advancedSettings.entitySettings.targetData.get("default");
-                    final ModuleData currentData = CraftPresence.CONFIG.advancedSettings.entitySettings.targetData.get(CURRENT_TARGET_NAME);
-                    return getPresenceData(currentData != null ? currentData : defaultData);
+                    return targetResolver.resolve(CURRENT_TARGET_NAME).presenceData();
                 });
                 hasInitializedTarget = true;
             }
@@ -227,26 +237,17 @@ public class EntityUtils implements ExtendedModule {
                 syncArgument("entity.riding.name", () -> CURRENT_RIDING != null, () -> CURRENT_RIDING_NAME, true);
 
                 syncArgument("entity.riding.message", () -> CURRENT_RIDING != null, () -> {
-                    final ModuleData defaultData = CraftPresence.CONFIG.advancedSettings.entitySettings.ridingData.get("default");
-                    final ModuleData currentData = CraftPresence.CONFIG.advancedSettings.entitySettings.ridingData.get(CURRENT_RIDING_NAME);
-
-                    final String defaultMessage = Config.isValidProperty(defaultData, "textOverride") ? defaultData.getTextOverride() : "";
-                    return getResult(Config.isValidProperty(currentData, "textOverride") ? currentData.getTextOverride() : defaultMessage, currentData != null ? currentData : defaultData);
+                    final ResolvedModuleData resolvedData = ridingResolver.resolve(CURRENT_RIDING_NAME);
+                    return getResult(resolvedData.getTextOverride(""), resolvedData.data());
                 });
                 syncArgument("entity.riding.icon", () -> CURRENT_RIDING != null, () -> {
-                    final ModuleData defaultData = CraftPresence.CONFIG.advancedSettings.entitySettings.ridingData.get("default");
-                    final ModuleData currentData = CraftPresence.CONFIG.advancedSettings.entitySettings.ridingData.get(CURRENT_RIDING_NAME);
-
-                    final String defaultIcon = Config.isValidProperty(defaultData, "iconOverride") ? defaultData.getIconOverride() : CURRENT_RIDING_NAME;
-                    final String currentIcon = Config.isValidProperty(currentData, "iconOverride") ? currentData.getIconOverride() : defaultIcon;
-                    return getResult(CraftPresence.CLIENT.imageOf(true, currentIcon, CraftPresence.CONFIG.advancedSettings.entitySettings.fallbackEntityIcon), currentData != null ? currentData : defaultData);
+                    final ResolvedModuleData resolvedData = ridingResolver.resolve(CURRENT_RIDING_NAME);
+                    final String currentIcon = resolvedData.getIconOverride(CURRENT_RIDING_NAME);
+                    return getResult(CraftPresence.CLIENT.imageOf(true, currentIcon, CraftPresence.CONFIG.advancedSettings.entitySettings.fallbackEntityIcon), resolvedData.data());
                 });
                 CraftPresence.CLIENT.addForcedData("entity.riding", () -> {
                     if (!isInUse() || CURRENT_RIDING == null) return null;
-
-                    final ModuleData defaultData = CraftPresence.CONFIG.advancedSettings.entitySettings.ridingData.get("default");
-                    final ModuleData currentData = CraftPresence.CONFIG.advancedSettings.entitySettings.ridingData.get(CURRENT_RIDING_NAME);
-                    return getPresenceData(currentData != null ? currentData : defaultData);
+                    return ridingResolver.resolve(CURRENT_RIDING_NAME).presenceData();
                 });
                 hasInitializedRiding = true;
             }
@@ -291,6 +292,11 @@ public class EntityUtils implements ExtendedModule {
         }
     }
 
+    @Override
+    public List<String> getConfigPaths() {
+        return CONFIG_PATHS;
+    }
+
     @Override
     public void getConfigData() {
         for (String entityTargetEntry : CraftPresence.CONFIG.advancedSettings.entitySettings.targetData.keySet()) {
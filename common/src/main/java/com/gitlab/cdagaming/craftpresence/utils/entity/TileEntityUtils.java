@@ -44,6 +44,10 @@ import java.util.function.Supplier;
  */
 @SuppressWarnings("DuplicatedCode")
 public class TileEntityUtils implements Module {
+    /**
+     * The config paths this module depends on
+     */
+    private static final List<String> CONFIG_PATHS = StringUtils.newArrayList("advancedSettings.itemMessages", "advancedSettings.enablePerItem");
     /**
      * A List of the detected internal Block Names
      */
@@ -443,6 +447,11 @@ public class TileEntityUtils implements Module {
         verifyEntities();
     }
 
+    @Override
+    public List<String> getConfigPaths() {
+        return CONFIG_PATHS;
+    }
+
     @Override
     public void getConfigData() {
         for (String itemEntry : CraftPresence.CONFIG.advancedSettings.itemMessages.keySet()) {
@@ -25,9 +25,10 @@
 package com.gitlab.cdagaming.craftpresence.utils.gui;
 
 import com.gitlab.cdagaming.craftpresence.CraftPresence;
-import com.gitlab.cdagaming.craftpresence.core.config.Config;
 import com.gitlab.cdagaming.craftpresence.core.config.element.ModuleData;
 import com.gitlab.cdagaming.craftpresence.core.impl.ExtendedModule;
+import com.gitlab.cdagaming.craftpresence.core.impl.ModuleDataResolver;
+import com.gitlab.cdagaming.craftpresence.core.impl.ResolvedModuleData;
 import com.gitlab.cdagaming.unilib.utils.GameUtils;
 import io.github.cdagaming.unicore.utils.FileUtils;
 import io.github.cdagaming.unicore.utils.MappingUtils;
@@ -47,6 +48,10 @@ import java.util.function.Supplier;
  */
 @SuppressWarnings("DuplicatedCode")
 public class GuiUtils implements ExtendedModule {
+    /**
+     * The config paths this module depends on
+     */
+    private static final List<String> CONFIG_PATHS = StringUtils.newArrayList("advancedSettings.guiSettings", "advancedSettings.enablePerGui");
     /**
      * A List of the detected Gui Screen Classes
      */
@@ -87,6 +92,10 @@ public class GuiUtils implements ExtendedModule {
      * The name of the Current Gui the player is in
      */
     private String CURRENT_GUI_NAME;
+    /**
+     * The resolver for the current screen's module data
+     */
+    private final ModuleDataResolver resolver = new ModuleDataResolver(this);
 
     @Override
     public void clearFieldData() {
@@ -105,6 +114,11 @@ public class GuiUtils implements ExtendedModule {
         hasInitialized = false;
     }
 
+    @Override
+    public void invalidateData() {
+        resolver.invalidate();
+    }
+
     @Override
     public void updateData() {
         final GuiScreen newScreen = GameUtils.getCurrentScreen(CraftPresence.instance);
@@ -155,6 +169,11 @@ public class GuiUtils implements ExtendedModule {
         }
     }
 
+    @Override
+    public List<String> getConfigPaths() {
+        return CONFIG_PATHS;
+    }
+
     @Override
     public void getConfigData() {
         for (String guiEntry : CraftPresence.CONFIG.advancedSettings.guiSettings.guiData.keySet()) {
@@ -247,21 +266,15 @@ public class GuiUtils implements ExtendedModule {
         syncArgument("screen.name", () -> CURRENT_GUI_NAME, true);
 
         syncArgument("screen.message", () -> {
-            final ModuleData defaultData = getDefaultData();
-            final ModuleData currentData = getData(CURRENT_GUI_NAME);
-
-            final String defaultMessage = Config.isValidProperty(defaultData, "textOverride") ? defaultData.getTextOverride() : "";
-            return Config.isValidProperty(currentData, "textOverride") ? currentData.getTextOverride() : defaultMessage;
+            final ResolvedModuleData resolvedData = resolver.resolve(CURRENT_GUI_NAME);
+            return resolvedData.getTextOverride("");
         });
         syncArgument("screen.icon", () -> {
-            final ModuleData defaultData = getDefaultData();
-            final ModuleData currentData = getData(CURRENT_GUI_NAME);
-
-            final String defaultIcon = Config.isValidProperty(defaultData, "iconOverride") ? defaultData.getIconOverride() : CURRENT_GUI_NAME;
-            final String currentIcon = Config.isValidProperty(currentData, "iconOverride") ? currentData.getIconOverride() : defaultIcon;
-            return getResult(CraftPresence.CLIENT.imageOf(true, currentIcon, CraftPresence.CONFIG.advancedSettings.guiSettings.fallbackGuiIcon), CURRENT_GUI_NAME);
+            final ResolvedModuleData resolvedData = resolver.resolve(CURRENT_GUI_NAME);
+            final String currentIcon = resolvedData.getIconOverride(CURRENT_GUI_NAME);
+            return getResult(CraftPresence.CLIENT.imageOf(true, currentIcon, CraftPresence.CONFIG.advancedSettings.guiSettings.fallbackGuiIcon), resolvedData.data());
         });
-        CraftPresence.CLIENT.addForcedData("screen", () -> isInUse() ? getPresenceData(CURRENT_GUI_NAME) : null);
+        CraftPresence.CLIENT.addForcedData("screen", () -> isInUse() ? resolver.resolve(CURRENT_GUI_NAME).presenceData() : null);
         CraftPresence.CLIENT.syncTimestamp("data.screen.time");
     }
 
@@ -38,7 +38,6 @@ import io.github.cdagaming.unicore.impl.Pair;
 import io.github.cdagaming.unicore.utils.MappingUtils;
 import io.github.cdagaming.unicore.utils.StringUtils;
 import net.minecraft.client.Minecraft;
-import net.minecraft.client.multiplayer.ServerData;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
 import unilib.external.io.github.classgraph.ClassInfo;
@@ -199,11 +198,10 @@ public class DynamicScrollableList extends ScrollableListControl {
         String assetUrl;
 
         if (renderType == RenderType.ServerData) {
-            final ServerData data = CraftPresence.SERVER.getDataFromName(originalName);
+            final ResourceLocation serverIcon = CraftPresence.SERVER.getServerIcon(getGameInstance(), originalName);
 
-            if (data != null && !StringUtils.isNullOrEmpty(data.getBase64EncodedIconData())) {
-                assetUrl = "data:image/png;base64," + data.getBase64EncodedIconData();
-                texture = ImageUtils.getTextureFromUrl(getGameInstance(), originalName, new Pair<>(ImageUtils.InputType.ByteStream, assetUrl));
+            if (serverIcon != null) {
+                texture = serverIcon;
             } else if (CraftPresence.CONFIG.advancedSettings.allowEndpointIcons &&
                     !StringUtils.isNullOrEmpty(CraftPresence.CONFIG.advancedSettings.serverIconEndpoint)) {
                 final String formattedIP = originalName.contains(":") ? StringUtils.formatAddress(originalName, false) : originalName;
@@ -26,6 +26,7 @@ package com.gitlab.cdagaming.craftpresence.utils.gui.impl;
 
 import com.gitlab.cdagaming.craftpresence.CraftPresence;
 import com.gitlab.cdagaming.craftpresence.core.Constants;
+import com.gitlab.cdagaming.craftpresence.core.impl.HttpRequests;
 import com.gitlab.cdagaming.craftpresence.core.impl.discord.DiscordStatus;
 import com.gitlab.cdagaming.craftpresence.core.integrations.discord.assets.DiscordAsset;
 import com.gitlab.cdagaming.craftpresence.core.integrations.discord.assets.DiscordAssetUtils;
@@ -39,17 +40,30 @@ import com.gitlab.cdagaming.unilib.utils.gui.widgets.TextDisplayWidget;
 import io.github.cdagaming.unicore.utils.FileUtils;
 import io.github.cdagaming.unicore.utils.StringUtils;
 
-import java.io.BufferedWriter;
-import java.io.File;
-import java.io.OutputStreamWriter;
+import java.io.*;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class CommandsGui extends ExtendedScreen {
     private static final Pattern SURROUNDED_BY_QUOTES = Pattern.compile("\"(.*?)\"");
+    private static final int DEFAULT_EXPORT_CONCURRENCY = 4;
+    private static final int MAX_EXPORT_CONCURRENCY = 16;
     public ExtendedButtonControl proceedButton, copyButton, enterButton;
     private String[] executionCommandArgs;
     private ExtendedTextControl commandInput;
@@ -248,18 +262,21 @@ public class CommandsGui extends ExtendedScreen {
                 } else if (executionCommandArgs[0].equalsIgnoreCase("export")) {
                     String clientId = CraftPresence.CONFIG.generalSettings.clientId;
                     boolean doFullCopy = false;
+                    int concurrency = DEFAULT_EXPORT_CONCURRENCY;
                     String urlMeta = "";
 
                     if (executionCommandArgs.length == 1) {
-                        executionString = Constants.TRANSLATOR.translate("craftpresence.command.usage.export", clientId, false);
+                        executionString = Constants.TRANSLATOR.translate("craftpresence.command.usage.export", clientId, false, DEFAULT_EXPORT_CONCURRENCY);
                     } else if (!StringUtils.isNullOrEmpty(executionCommandArgs[1])) {
                         if (executionCommandArgs[1].equalsIgnoreCase("assets")) {
-                            if (executionCommandArgs.length >= 3 && executionCommandArgs.length <= 5) {
+                            if (executionCommandArgs.length >= 3 && executionCommandArgs.length <= 6) {
                                 for (int i = 2; i < executionCommandArgs.length; i++) {
                                     if (StringUtils.isValidBoolean(executionCommandArgs[i])) {
                                         doFullCopy = Boolean.parseBoolean(executionCommandArgs[i]);
                                     } else if (DiscordAssetUtils.isValidId(executionCommandArgs[i])) {
                                         clientId = executionCommandArgs[i];
+                                    } else if (StringUtils.getValidInteger(executionCommandArgs[i]).getFirst()) {
+                                        concurrency = StringUtils.getValidInteger(executionCommandArgs[i]).getSecond();
                                     } else {
                                         final Matcher matcher = SURROUNDED_BY_QUOTES.matcher(commandString);
                                         if (matcher.find()) {
@@ -271,7 +288,7 @@ public class CommandsGui extends ExtendedScreen {
                                 executionString = Constants.TRANSLATOR.translate("craftpresence.command.unrecognized");
                             }
 
-                            exportAssets(clientId, doFullCopy, urlMeta);
+                            exportAssets(clientId, doFullCopy, urlMeta, concurrency);
                         } else {
                             executionString = Constants.TRANSLATOR.translate("craftpresence.command.unrecognized");
                         }
@@ -594,21 +611,23 @@ public class CommandsGui extends ExtendedScreen {
     /**
      * Export the Assets belonging to another client id
      *
-     * @param clientId   The client ID to export from
-     * @param doFullCopy Whether to do a full copy or a text-only copy
-     * @param urlMeta    The additional data to append to the URL
+     * @param clientId    The client ID to export from
+     * @param doFullCopy  Whether to do a full copy or a text-only copy
+     * @param urlMeta     The additional data to append to the URL
+     * @param concurrency The maximum amount of assets to download at once
      */
-    private void exportAssets(final String clientId, final boolean doFullCopy, final String urlMeta) {
+    private void exportAssets(final String clientId, final boolean doFullCopy, final String urlMeta, final int concurrency) {
         Constants.getThreadFactory().newThread(() -> {
             blockInteractions = true;
             final DiscordAsset[] assetList = DiscordAssetUtils.loadAssets(clientId, false);
-            boolean hasError = false;
+            final AtomicBoolean hasError = new AtomicBoolean(false);
 
             if (assetList != null) {
                 final String filePath = Constants.MOD_ID + File.separator + "export" + File.separator + clientId + File.separator;
                 executionString = Constants.TRANSLATOR.translate("craftpresence.command.export.pre", assetList.length, clientId, doFullCopy);
 
                 final File dataDir = new File(filePath + "downloads.txt");
+                final File checksumFile = new File(filePath + "checksums.txt");
                 final String encoding = CraftPresence.CLIENT.isAvailable() ?
                         CraftPresence.CLIENT.ipcInstance.getEncoding() : "UTF-8";
 
@@ -617,34 +636,75 @@ public class CommandsGui extends ExtendedScreen {
                     FileUtils.assertFileExists(dataDir);
                 } catch (Throwable ex) {
                     Constants.LOG.debugError(ex);
-                    hasError = true;
+                    hasError.set(true);
                 }
 
-                try (BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(dataDir.toPath()), encoding))) {
+                // Retrieve checksums from previous (possibly interrupted) runs, allowing them to be resumed
+                final Map<String, String[]> checksums = doFullCopy ? readChecksums(checksumFile) : StringUtils.newHashMap();
+                final AtomicInteger completed = new AtomicInteger(0);
+                final AtomicLong downloadedBytes = new AtomicLong(0);
+                final long startTime = System.nanoTime();
+                final ExecutorService executor = Executors.newFixedThreadPool(
+                        Math.max(1, Math.min(concurrency, MAX_EXPORT_CONCURRENCY)), Constants.getThreadFactory()
+                );
+
+                try (BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(dataDir.toPath()), encoding));
+                     BufferedWriter checksumWriter = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(checksumFile.toPath(),
+                             StandardOpenOption.CREATE, StandardOpenOption.APPEND), StandardCharsets.UTF_8))) {
                     // Create and write initial data, using the encoding of our current ipc instance (UTF-8 by default)
                     bw.write("## Export Data => " + clientId);
                     bw.newLine();
                     bw.newLine();
+                    bw.flush();
+
+                    for (DiscordAsset asset : assetList) {
+                        executor.execute(() -> {
+                            final String assetUrl = DiscordAssetUtils.getDiscordAssetUrl(clientId, asset.getId()) + urlMeta;
+                            final String assetName = asset.getName() + ".png";
+                            try {
+                                if (doFullCopy) {
+                                    final File assetFile = new File(filePath + assetName);
+                                    if (!isExported(assetFile, assetUrl, checksums.get(assetName))) {
+                                        final String[] checksum = downloadAsset(assetUrl, assetFile, downloadedBytes);
+                                        checksums.put(assetName, new String[]{checksum[0], checksum[1], assetUrl});
+                                        synchronized (checksumWriter) {
+                                            checksumWriter.write(assetName + "\t" + checksum[0] + "\t" + checksum[1] + "\t" + assetUrl);
+                                            checksumWriter.newLine();
+                                            checksumWriter.flush();
+                                        }
+                                    }
+                                }
+                                synchronized (bw) {
+                                    bw.write("* " + assetName + " => " + assetUrl);
+                                    bw.newLine();
+                                    bw.flush();
+                                }
+                            } catch (Throwable ex) {
+                                Constants.LOG.debugError(ex);
+                                hasError.set(true);
+                            }
 
-                    for (int i = 0; i < assetList.length; i++) {
-                        executionString = Constants.TRANSLATOR.translate("craftpresence.command.export.progress",
-                                clientId, i + 1, assetList.length
-                        );
-                        final DiscordAsset asset = assetList[i];
-                        final String assetUrl = DiscordAssetUtils.getDiscordAssetUrl(clientId, asset.getId()) + urlMeta;
-                        final String assetName = asset.getName() + ".png";
-                        if (doFullCopy) {
-                            FileUtils.downloadFile(assetUrl, new File(filePath + assetName));
-                        }
-                        bw.write("* " + assetName + " => " + assetUrl);
-                        bw.newLine();
+                            executionString = Constants.TRANSLATOR.translate("craftpresence.command.export.progress",
+                                    clientId, completed.incrementAndGet(), assetList.length,
+                                    getThroughput(downloadedBytes.get(), System.nanoTime() - startTime)
+                            );
+                        });
+                    }
+
+                    executor.shutdown();
+                    while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                        // Wait for all pending downloads to complete
                     }
                 } catch (Throwable ex) {
+                    executor.shutdownNow();
                     Constants.LOG.debugError(ex);
-                    hasError = true;
+                    hasError.set(true);
                 }
 
-                if (!hasError) {
+                if (!hasError.get()) {
+                    if (doFullCopy) {
+                        writeChecksums(checksumFile, checksums, assetList);
+                    }
                     executionString = Constants.TRANSLATOR.translate("craftpresence.command.export.post", assetList.length, clientId, doFullCopy);
                 } else {
                     executionString = Constants.TRANSLATOR.translate("craftpresence.command.export.exception", clientId);
@@ -655,4 +715,174 @@ public class CommandsGui extends ExtendedScreen {
             blockInteractions = false;
         }).start();
     }
+
+    /**
+     * Retrieves the checksums recorded by previous exports
+     * <p>
+     * Format: assetName, [size, sha256, url]
+     *
+     * @param checksumFile The file containing the recorded checksums
+     * @return the recorded checksums, with later entries taking priority
+     */
+    private Map<String, String[]> readChecksums(final File checksumFile) {
+        final Map<String, String[]> checksums = StringUtils.newConcurrentHashMap();
+        if (checksumFile.exists()) {
+            try {
+                for (String line : Files.readAllLines(checksumFile.toPath(), StandardCharsets.UTF_8)) {
+                    final String[] parts = line.split("\t", 4);
+                    if (parts.length == 4) {
+                        checksums.put(parts[0], new String[]{parts[1], parts[2], parts[3]});
+                    }
+                }
+            } catch (Throwable ex) {
+                Constants.LOG.debugError(ex);
+            }
+        }
+        return checksums;
+    }
+
+    /**
+     * Determines whether the specified asset has already been exported, with matching contents
+     *
+     * @param assetFile The file the asset is exported to
+     * @param assetUrl  The url the asset is exported from
+     * @param checksum  The checksum recorded for this asset, if any
+     * @return {@link Boolean#TRUE} if the asset can be skipped
+     */
+    private boolean isExported(final File assetFile, final String assetUrl, final String[] checksum) {
+        if (checksum == null || !assetFile.isFile() || !checksum[2].equals(assetUrl) ||
+                assetFile.length() != Long.parseLong(checksum[0])) {
+            return false;
+        }
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            updateDigest(digest, assetFile);
+            return checksum[1].equals(DiscordAssetUtils.toHex(digest.digest()));
+        } catch (Throwable ex) {
+            Constants.LOG.debugError(ex);
+            return false;
+        }
+    }
+
+    /**
+     * Rewrites the checksum file with the latest checksum of each exported asset
+     * <p>
+     * Checksums are appended while exporting, so that interrupted runs can be resumed,
+     * and compacted here once a run succeeds, dropping superseded and removed entries
+     *
+     * @param checksumFile The file containing the recorded checksums
+     * @param checksums    The latest recorded checksums
+     * @param assetList    The assets that were exported
+     */
+    private void writeChecksums(final File checksumFile, final Map<String, String[]> checksums, final DiscordAsset[] assetList) {
+        final File tempFile = new File(checksumFile.getPath() + ".part");
+        try (BufferedWriter writer = Files.newBufferedWriter(tempFile.toPath(), StandardCharsets.UTF_8)) {
+            for (DiscordAsset asset : assetList) {
+                final String assetName = asset.getName() + ".png";
+                final String[] checksum = checksums.get(assetName);
+                if (checksum != null) {
+                    writer.write(assetName + "\t" + checksum[0] + "\t" + checksum[1] + "\t" + checksum[2]);
+                    writer.newLine();
+                }
+            }
+        } catch (Throwable ex) {
+            Constants.LOG.debugError(ex);
+            return;
+        }
+        try {
+            Files.move(tempFile.toPath(), checksumFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (Throwable ex) {
+            Constants.LOG.debugError(ex);
+        }
+    }
+
+    /**
+     * Updates the specified digest with the contents of the specified file
+     *
+     * @param digest The digest to update
+     * @param file   The file to interpret
+     * @throws IOException if the file is unable to be read
+     */
+    private void updateDigest(final MessageDigest digest, final File file) throws IOException {
+        try (InputStream stream = Files.newInputStream(file.toPath())) {
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+    }
+
+    /**
+     * Downloads the specified asset, streaming it to a temporary file before moving it into place
+     * <p>
+     * If a temporary file remains from an interrupted download, it is resumed with a ranged request,
+     * falling back to a full download if the server does not support resuming it
+     *
+     * @param assetUrl        The url the asset is exported from
+     * @param assetFile       The file the asset is exported to
+     * @param downloadedBytes The counter to add downloaded bytes to
+     * @return the size and sha256 hash of the downloaded asset
+     * @throws Exception if the asset is unable to be downloaded
+     */
+    private String[] downloadAsset(final String assetUrl, final File assetFile, final AtomicLong downloadedBytes) throws Exception {
+        final File tempFile = new File(assetFile.getPath() + ".part");
+        final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        final long existingSize = tempFile.isFile() ? tempFile.length() : 0L;
+        final Map<String, String> headers = StringUtils.newHashMap();
+        if (existingSize > 0) {
+            headers.put("Range", "bytes=" + existingSize + "-");
+        }
+
+        final HttpURLConnection connection = HttpRequests.openConnection(assetUrl, headers);
+        long size = 0;
+        try {
+            final int responseCode = connection.getResponseCode();
+            final String contentRange = connection.getHeaderField("Content-Range");
+            final boolean isResumed = existingSize > 0 && responseCode == HttpURLConnection.HTTP_PARTIAL &&
+                    contentRange != null && contentRange.startsWith("bytes " + existingSize + "-");
+            if (existingSize > 0 && !isResumed &&
+                    (responseCode == HttpURLConnection.HTTP_PARTIAL || responseCode == 416)) {
+                // The partial file is unusable (Such as being complete or outdated), so start over
+                connection.disconnect();
+                Files.delete(tempFile.toPath());
+                return downloadAsset(assetUrl, assetFile, downloadedBytes);
+            } else if (!isResumed && responseCode != HttpURLConnection.HTTP_OK) {
+                throw new IOException("Unexpected response code " + responseCode + " from " + assetUrl);
+            }
+
+            if (isResumed) {
+                updateDigest(digest, tempFile);
+                size = existingSize;
+            }
+            try (InputStream stream = new DigestInputStream(connection.getInputStream(), digest);
+                 OutputStream out = isResumed ?
+                         Files.newOutputStream(tempFile.toPath(), StandardOpenOption.APPEND) :
+                         Files.newOutputStream(tempFile.toPath())) {
+                final byte[] buffer = new byte[8192];
+                int read;
+                while ((read = stream.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                    size += read;
+                    downloadedBytes.addAndGet(read);
+                }
+            }
+        } finally {
+            connection.disconnect();
+        }
+        Files.move(tempFile.toPath(), assetFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        return new String[]{String.valueOf(size), DiscordAssetUtils.toHex(digest.digest())};
+    }
+
+    /**
+     * Formats the download throughput for display
+     *
+     * @param bytes       The amount of bytes downloaded
+     * @param elapsedTime The elapsed time, in nanoseconds
+     * @return the formatted throughput, in kilobytes per second
+     */
+    private String getThroughput(final long bytes, final long elapsedTime) {
+        final double seconds = Math.max(elapsedTime, 1) / 1_000_000_000.0D;
+        return String.format("%.1f KB/s", (bytes / 1024.0D) / seconds);
+    }
 }
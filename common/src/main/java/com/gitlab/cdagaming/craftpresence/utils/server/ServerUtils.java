@@ -28,10 +28,17 @@ import com.gitlab.cdagaming.craftpresence.CraftPresence;
 import com.gitlab.cdagaming.craftpresence.core.Constants;
 import com.gitlab.cdagaming.craftpresence.core.config.Config;
 import com.gitlab.cdagaming.craftpresence.core.config.element.ModuleData;
+import com.gitlab.cdagaming.craftpresence.core.impl.DomainTrie;
 import com.gitlab.cdagaming.craftpresence.core.impl.ExtendedModule;
+import com.gitlab.cdagaming.craftpresence.core.impl.ModuleDataResolver;
+import com.gitlab.cdagaming.craftpresence.core.impl.ResolvedModuleData;
+import com.gitlab.cdagaming.craftpresence.core.impl.TimeFormats;
 import com.gitlab.cdagaming.craftpresence.core.impl.discord.DiscordStatus;
+import com.gitlab.cdagaming.craftpresence.core.integrations.discord.assets.DiscordAssetUtils;
 import com.gitlab.cdagaming.unilib.ModUtils;
 import com.gitlab.cdagaming.unilib.utils.GameUtils;
+import com.gitlab.cdagaming.unilib.utils.ImageUtils;
+import com.gitlab.cdagaming.unilib.utils.ResourceUtils;
 import com.gitlab.cdagaming.unilib.utils.WorldUtils;
 import com.gitlab.cdagaming.unilib.utils.gui.RenderUtils;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
@@ -41,6 +48,7 @@ import io.github.cdagaming.unicore.impl.Pair;
 import io.github.cdagaming.unicore.utils.MathUtils;
 import io.github.cdagaming.unicore.utils.StringUtils;
 import io.github.cdagaming.unicore.utils.TimeUtils;
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiMainMenu;
 import net.minecraft.client.gui.GuiScreen;
 import net.minecraft.client.gui.GuiScreenRealmsProxy;
@@ -51,11 +59,16 @@ import net.minecraft.client.network.NetHandlerPlayClient;
 import net.minecraft.client.network.NetworkPlayerInfo;
 import net.minecraft.client.network.ServerPinger;
 import net.minecraft.server.integrated.IntegratedServer;
+import net.minecraft.util.ResourceLocation;
 
 import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.concurrent.*;
 import java.util.function.Supplier;
 
@@ -66,6 +79,18 @@ import java.util.function.Supplier;
  */
 @SuppressWarnings("DuplicatedCode")
 public class ServerUtils implements ExtendedModule {
+    /**
+     * The config paths this module depends on
+     */
+    private static final List<String> CONFIG_PATHS = StringUtils.newArrayList(
+            "serverSettings",
+            "statusMessages",
+            "generalSettings.detectWorldData",
+            "generalSettings.enableJoinRequests",
+            "advancedSettings.allowEndpointIcons",
+            "advancedSettings.serverIconEndpoint",
+            "advancedSettings.playerSkinEndpoint"
+    );
     /**
      * The Thread Pool Manager used for pinging Minecraft Server Data
      */
@@ -91,6 +116,14 @@ public class ServerUtils implements ExtendedModule {
     private static final List<String> invalidNames = StringUtils.newArrayList(
             "selectServer.defaultName"
     );
+    /**
+     * The List of resolved invalid MOTD (Message of the Day) Translations, for the current language
+     */
+    private final List<String> translatedMotds = StringUtils.newArrayList();
+    /**
+     * The List of resolved invalid Server Name Translations, for the current language
+     */
+    private final List<String> translatedNames = StringUtils.newArrayList();
     /**
      * The Ping Service to use when polling Minecraft Server Data
      */
@@ -111,6 +144,14 @@ public class ServerUtils implements ExtendedModule {
      * A List of the detected Server Data from NBT
      */
     public Map<String, ServerData> knownServerData = StringUtils.newHashMap();
+    /**
+     * A Mapping of the decoded Server Icons, keyed by the Server Data's address
+     */
+    private final Map<String, ServerIcon> serverIcons = StringUtils.newConcurrentHashMap();
+    /**
+     * The replaced Server Icons, awaiting release on the render thread
+     */
+    private final Queue<ServerIcon> staleIcons = new ConcurrentLinkedQueue<>();
     /**
      * The Scheduler used for pinging Minecraft Server Data
      */
@@ -147,6 +188,18 @@ public class ServerUtils implements ExtendedModule {
      * Whether an initial realm scan has been performed
      */
     private boolean hasCheckedRealm = false;
+    /**
+     * The language code the invalid data translations were last resolved with
+     */
+    private String translatedLanguage;
+    /**
+     * The last raw MOTD (Message of the Day) that was processed
+     */
+    private String lastRawMotd;
+    /**
+     * The processed form of {@link ServerUtils#lastRawMotd}, or null if it was invalid
+     */
+    private String lastProcessedMotd;
     /**
      * The IP Address of the Current Server the Player is in
      */
@@ -221,12 +274,28 @@ public class ServerUtils implements ExtendedModule {
      */
     private boolean isOnRealm = false;
 
+    /**
+     * The index of wildcard server entries, such as `*.example.net`
+     */
+    private volatile DomainTrie<String> serverPatterns = new DomainTrie<>();
+    /**
+     * Mapping of resolved wildcard server entries for the current server session
+     * <p>Format: serverKey, matchingPattern (Or an empty string, if none match)
+     */
+    private final Map<String, String> sessionMatches = StringUtils.newConcurrentHashMap();
+    /**
+     * The resolver for the current server's module data
+     */
+    private final ModuleDataResolver resolver = new ModuleDataResolver(this);
+
     @Override
     public void clearFieldData() {
         currentPlayerList.clear();
         defaultAddresses.clear();
         knownAddresses.clear();
         knownServerData.clear();
+        staleIcons.addAll(serverIcons.values());
+        serverIcons.clear();
         serverList = null;
         serverIndex = 0;
     }
@@ -246,6 +315,7 @@ public class ServerUtils implements ExtendedModule {
         maxPlayers = 0;
 
         stopPingTask();
+        sessionMatches.clear();
 
         queuedForUpdate = false;
         joinInProgress = false;
@@ -293,6 +363,11 @@ public class ServerUtils implements ExtendedModule {
         return null;
     }
 
+    @Override
+    public void invalidateData() {
+        resolver.invalidate();
+    }
+
     @Override
     public void updateData() {
         final IntegratedServer newIntegratedData = CraftPresence.instance.getIntegratedServer();
@@ -444,7 +519,61 @@ public class ServerUtils implements ExtendedModule {
         } else if (newIntegratedData != null && newIntegratedData.getMOTD() != null) {
             result = newIntegratedData.getMOTD();
         }
-        return !isInvalidMotd(result) ? StringUtils.stripAllFormatting(result) : CraftPresence.CONFIG.serverSettings.fallbackServerMotd;
+        return processMotd(result);
+    }
+
+    /**
+     * Process the specified server message of the day, stripping any formatting
+     * <p>
+     * The result is memoized by the raw MOTD, so an unchanged MOTD skips translation and formatting work
+     *
+     * @param rawMotd The raw server message of the day to interpret
+     * @return the processed server message of the day, or the fallback MOTD if invalid
+     */
+    private String processMotd(final String rawMotd) {
+        syncTranslations();
+        if (lastRawMotd == null || !lastRawMotd.equals(rawMotd)) {
+            lastProcessedMotd = !isInvalidMotd(rawMotd) ? StringUtils.stripAllFormatting(rawMotd) : null;
+            lastRawMotd = rawMotd;
+        }
+        return lastProcessedMotd != null ? lastProcessedMotd : CraftPresence.CONFIG.serverSettings.fallbackServerMotd;
+    }
+
+    /**
+     * Resolve the invalid data translations, if the game language has changed since the last call
+     * <p>
+     * The result is only memoized once the translator is able to resolve them,
+     * so that translations requested before the game data is loaded are retried on the next call
+     */
+    private void syncTranslations() {
+        if (ModUtils.RAW_TRANSLATOR == null) return;
+
+        final String languageCode = CraftPresence.instance.getLanguageManager().getCurrentLanguage().getLanguageCode();
+        if (!languageCode.equals(translatedLanguage)) {
+            final boolean hasMotds = resolveTranslations(invalidMotds, translatedMotds);
+            final boolean hasNames = resolveTranslations(invalidNames, translatedNames);
+            if (hasMotds || hasNames) {
+                translatedLanguage = languageCode;
+            }
+            lastRawMotd = null;
+        }
+    }
+
+    /**
+     * Resolve the specified translation keys into their translated form
+     *
+     * @param keys    The translation keys to interpret
+     * @param results The list to store the resolved translations in
+     * @return {@link Boolean#TRUE} if any translation keys were resolved
+     */
+    private boolean resolveTranslations(final List<String> keys, final List<String> results) {
+        results.clear();
+        for (String key : keys) {
+            if (ModUtils.RAW_TRANSLATOR.hasTranslation(key)) {
+                results.add(ModUtils.RAW_TRANSLATOR.translate(key));
+            }
+        }
+        return !results.isEmpty();
     }
 
     /**
@@ -465,8 +594,7 @@ public class ServerUtils implements ExtendedModule {
 
         final String newServer_IP = getServerAddress(newServerData);
         final String newServer_Name = currentRealmData.getName();
-        final String newServer_MOTD = !isInvalidMotd(currentRealmData.getDescription()) ?
-                StringUtils.stripAllFormatting(currentRealmData.getDescription()) : CraftPresence.CONFIG.serverSettings.fallbackServerMotd;
+        final String newServer_MOTD = processMotd(currentRealmData.getDescription());
 
         processData(false, false,
                 null, newServerData, newConnection,
@@ -518,13 +646,13 @@ public class ServerUtils implements ExtendedModule {
      * Whether the supplied server element contains invalid characters
      *
      * @param input        The server element to interpret
-     * @param invalidItems The list of items to iterate over for validity
+     * @param invalidItems The list of resolved translations to iterate over for validity
      * @return {@link Boolean#TRUE} if condition is satisfied
      */
     private boolean isInvalidData(final String input, final List<String> invalidItems) {
         if (!StringUtils.isNullOrEmpty(input)) {
             for (String item : invalidItems) {
-                if (ModUtils.RAW_TRANSLATOR != null && ModUtils.RAW_TRANSLATOR.hasTranslation(item) && input.equalsIgnoreCase(ModUtils.RAW_TRANSLATOR.translate(item))) {
+                if (input.equalsIgnoreCase(item)) {
                     return true;
                 }
             }
@@ -540,7 +668,7 @@ public class ServerUtils implements ExtendedModule {
      * @return {@link Boolean#TRUE} if condition is satisfied
      */
     private boolean isInvalidMotd(final String serverMotd) {
-        return isInvalidData(serverMotd, invalidMotds);
+        return isInvalidData(serverMotd, translatedMotds);
     }
 
     /**
@@ -550,7 +678,8 @@ public class ServerUtils implements ExtendedModule {
      * @return {@link Boolean#TRUE} if condition is satisfied
      */
     private boolean isInvalidName(final String serverName) {
-        return isInvalidData(serverName, invalidNames);
+        syncTranslations();
+        return isInvalidData(serverName, translatedNames);
     }
 
     /**
@@ -626,6 +755,10 @@ public class ServerUtils implements ExtendedModule {
                 final String iconData = serverData.getBase64EncodedIconData();
                 pinger.ping(serverData);
                 if (!Objects.equals(iconData, serverData.getBase64EncodedIconData())) {
+                    final ServerIcon staleIcon = serverData.serverIP != null ? serverIcons.remove(serverData.serverIP) : null;
+                    if (staleIcon != null) {
+                        staleIcons.add(staleIcon);
+                    }
                     saverEvent.run();
                 }
                 callbackEvent.run();
@@ -798,13 +931,13 @@ public class ServerUtils implements ExtendedModule {
                 TimeUtils.fromWorldTime(CraftPresence.world.getWorldTime()).getFirst(), true
         );
         syncArgument("world.time.format_24", () ->
-                        TimeUtils.toString(
+                        TimeFormats.toString(
                                 TimeUtils.fromWorldTime(CraftPresence.world.getWorldTime()).getSecond(),
                                 "HH:mm"
                         )
                 , true);
         syncArgument("world.time.format_12", () ->
-                        TimeUtils.toString(
+                        TimeFormats.toString(
                                 TimeUtils.fromWorldTime(CraftPresence.world.getWorldTime()).getSecond(),
                                 "HH:mm a"
                         )
@@ -823,14 +956,8 @@ public class ServerUtils implements ExtendedModule {
                     final ModuleData primaryData = CraftPresence.CONFIG.statusMessages.lanData;
                     return getResult(Config.isValidProperty(primaryData, "textOverride") ? primaryData.getTextOverride() : "", primaryData);
                 } else {
-                    final ModuleData defaultData = getDefaultData();
-                    final ModuleData alternateData = getData(currentServer_Name);
-                    final ModuleData primaryData = getData(formattedServer_IP);
-
-                    final String defaultMessage = Config.isValidProperty(defaultData, "textOverride") ? defaultData.getTextOverride() : "";
-                    final String alternateMessage = Config.isValidProperty(alternateData, "textOverride") ? alternateData.getTextOverride() : defaultMessage;
-                    return getResult(Config.isValidProperty(primaryData, "textOverride") ? primaryData.getTextOverride() : alternateMessage,
-                            formattedServer_IP, currentServer_Name);
+                    final ResolvedModuleData resolvedData = resolver.resolve(formattedServer_IP, currentServer_Name);
+                    return getResult(resolvedData.getTextOverride(""), resolvedData.data());
                 }
             } else if (isOnSinglePlayer) {
                 final ModuleData primaryData = CraftPresence.CONFIG.statusMessages.singleplayerData;
@@ -850,14 +977,9 @@ public class ServerUtils implements ExtendedModule {
                     resultData = CraftPresence.CONFIG.statusMessages.lanData;
                     currentServerIcon = Config.isValidProperty(resultData, "iconOverride") ? resultData.getIconOverride() : "";
                 } else {
-                    final ModuleData defaultData = getDefaultData();
-                    final ModuleData alternateData = getData(currentServer_Name);
-                    final ModuleData primaryData = getData(formattedServer_IP);
-                    resultData = getOrDefault(primaryData, alternateData);
-
-                    final String defaultIcon = Config.isValidProperty(defaultData, "iconOverride") ? defaultData.getIconOverride() : "";
-                    final String alternateIcon = Config.isValidProperty(alternateData, "iconOverride") ? alternateData.getIconOverride() : defaultIcon;
-                    currentServerIcon = Config.isValidProperty(primaryData, "iconOverride") ? primaryData.getIconOverride() : alternateIcon;
+                    final ResolvedModuleData resolvedData = resolver.resolve(formattedServer_IP, currentServer_Name);
+                    resultData = resolvedData.data();
+                    currentServerIcon = resolvedData.getIconOverride("");
 
                     // Attempt to find alternative icons, if no overrides are present
                     if (StringUtils.isNullOrEmpty(currentServerIcon)) {
@@ -908,7 +1030,7 @@ public class ServerUtils implements ExtendedModule {
                 if (isOnLAN) {
                     resultData = CraftPresence.CONFIG.statusMessages.lanData;
                 } else {
-                    resultData = getOrDefault(formattedServer_IP, currentServer_Name);
+                    resultData = resolver.resolve(formattedServer_IP, currentServer_Name).data();
                 }
             } else if (isOnSinglePlayer) {
                 resultData = CraftPresence.CONFIG.statusMessages.singleplayerData;
@@ -1003,13 +1125,24 @@ public class ServerUtils implements ExtendedModule {
         }
     }
 
+    @Override
+    public List<String> getConfigPaths() {
+        return CONFIG_PATHS;
+    }
+
     @Override
     public void getConfigData() {
+        final DomainTrie<String> patterns = new DomainTrie<>();
         for (String serverEntry : CraftPresence.CONFIG.serverSettings.serverData.keySet()) {
             if (!StringUtils.isNullOrEmpty(serverEntry) && !knownAddresses.contains(serverEntry)) {
                 knownAddresses.add(serverEntry);
             }
+            if (DomainTrie.isPattern(serverEntry)) {
+                patterns.put(serverEntry, serverEntry);
+            }
         }
+        serverPatterns = patterns;
+        sessionMatches.clear();
     }
 
     @Override
@@ -1019,7 +1152,24 @@ public class ServerUtils implements ExtendedModule {
 
     @Override
     public ModuleData getData(String key) {
-        return CraftPresence.CONFIG.serverSettings.serverData.get(key);
+        final Map<String, ModuleData> serverData = CraftPresence.CONFIG.serverSettings.serverData;
+        final ModuleData data = serverData.get(key);
+        if (data != null || StringUtils.isNullOrEmpty(key)) {
+            return data;
+        }
+
+        // Fallback to the most specific wildcard entry, if any
+        final DomainTrie<String> patterns = serverPatterns;
+        if (patterns.size() > 0) {
+            final String pattern = sessionMatches.computeIfAbsent(key, host -> {
+                final String match = patterns.get(host);
+                return match != null ? match : "";
+            });
+            if (!pattern.isEmpty()) {
+                return serverData.get(pattern);
+            }
+        }
+        return null;
     }
 
     @Override
@@ -1091,4 +1241,139 @@ public class ServerUtils implements ExtendedModule {
     public ServerData getDataFromName(final String serverAddress) {
         return knownServerData.getOrDefault(serverAddress, null);
     }
+
+    /**
+     * Retrieves the server icon texture for the specified address, if available
+     * <p>
+     * Icon data is decoded and uploaded once per content digest, and later calls reuse
+     * the cached texture until a ping rewrites the icon data for that server, at which
+     * point the previous texture is released
+     *
+     * @param instance      The Minecraft Instance
+     * @param serverAddress The Server's identifying address
+     * @return the server icon texture, or null if no icon data is available
+     */
+    public ResourceLocation getServerIcon(final Minecraft instance, final String serverAddress) {
+        ServerIcon staleIcon;
+        while ((staleIcon = staleIcons.poll()) != null) {
+            staleIcon.release(instance);
+        }
+
+        final ServerData data = getDataFromName(serverAddress);
+        final String iconData = data != null ? data.getBase64EncodedIconData() : null;
+        if (StringUtils.isNullOrEmpty(iconData) || StringUtils.isNullOrEmpty(data.serverIP)) {
+            return null;
+        }
+
+        // Keyed by the Server Data's address, matching the invalidation performed on ping
+        ServerIcon icon = serverIcons.get(data.serverIP);
+        if (icon == null || !icon.matches(iconData)) {
+            final ServerIcon newIcon = new ServerIcon(data.serverIP, iconData);
+            staleIcon = serverIcons.put(data.serverIP, newIcon);
+            if (staleIcon != null) {
+                staleIcon.release(instance);
+            }
+            icon = newIcon;
+        }
+        return icon.getTexture(instance);
+    }
+
+    /**
+     * Cached decoded icon data for a Server Entry
+     */
+    private static final class ServerIcon {
+        /**
+         * The hash code of the icon data, used to quickly reject differing icon data
+         */
+        private final int hash;
+        /**
+         * The texture name for this icon, unique to its content digest
+         */
+        private final String textureName;
+        /**
+         * The image source used to upload this icon
+         */
+        private final Pair<ImageUtils.InputType, Object> source;
+        /**
+         * The last seen icon data instance
+         */
+        private String iconData;
+        /**
+         * The uploaded texture, once available
+         */
+        private ResourceLocation texture;
+
+        /**
+         * Initializes a new Server Icon Entry
+         *
+         * @param serverAddress The Server's identifying address
+         * @param iconData      The Base64 encoded icon data
+         */
+        ServerIcon(final String serverAddress, final String iconData) {
+            this.iconData = iconData;
+            this.hash = iconData.hashCode();
+            this.textureName = serverAddress + "_" + getContentDigest(iconData);
+            this.source = new Pair<>(ImageUtils.InputType.ByteStream, "data:image/png;base64," + iconData);
+        }
+
+        /**
+         * Retrieve the content digest (SHA-256) for the specified icon data
+         * <p>
+         * Unlike a hash code, differing icon data will not share a digest, so a texture is never reused for another icon
+         *
+         * @param iconData The Base64 encoded icon data to interpret
+         * @return the content digest, as a hex string
+         */
+        private static String getContentDigest(final String iconData) {
+            try {
+                return DiscordAssetUtils.toHex(MessageDigest.getInstance("SHA-256").digest(iconData.getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException ex) {
+                // Every Java platform is required to support SHA-256
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        /**
+         * Whether the specified icon data matches the data for this entry
+         *
+         * @param data The Base64 encoded icon data to interpret
+         * @return {@link Boolean#TRUE} if condition is satisfied
+         */
+        boolean matches(final String data) {
+            if (data == iconData) {
+                return true;
+            }
+            if (data.hashCode() == hash && data.equals(iconData)) {
+                // Track the newer instance, so later checks stay on the identity path
+                iconData = data;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Retrieve the texture for this icon, uploading it if not yet available
+         *
+         * @param instance The Minecraft Instance
+         * @return the texture for this icon
+         */
+        ResourceLocation getTexture(final Minecraft instance) {
+            if (texture == null || !ResourceUtils.isValidResource(texture)) {
+                texture = ImageUtils.getTextureFromUrl(instance, textureName, source);
+            }
+            return texture;
+        }
+
+        /**
+         * Release the uploaded texture for this icon, if any
+         *
+         * @param instance The Minecraft Instance
+         */
+        void release(final Minecraft instance) {
+            if (texture != null) {
+                instance.getTextureManager().deleteTexture(texture);
+                texture = null;
+            }
+        }
+    }
 }
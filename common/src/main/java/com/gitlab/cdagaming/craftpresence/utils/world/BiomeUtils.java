@@ -25,9 +25,10 @@
 package com.gitlab.cdagaming.craftpresence.utils.world;
 
 import com.gitlab.cdagaming.craftpresence.CraftPresence;
-import com.gitlab.cdagaming.craftpresence.core.config.Config;
 import com.gitlab.cdagaming.craftpresence.core.config.element.ModuleData;
 import com.gitlab.cdagaming.craftpresence.core.impl.ExtendedModule;
+import com.gitlab.cdagaming.craftpresence.core.impl.ModuleDataResolver;
+import com.gitlab.cdagaming.craftpresence.core.impl.ResolvedModuleData;
 import io.github.cdagaming.unicore.utils.FileUtils;
 import io.github.cdagaming.unicore.utils.MappingUtils;
 import io.github.cdagaming.unicore.utils.StringUtils;
@@ -44,6 +45,10 @@ import java.util.function.Supplier;
  */
 @SuppressWarnings("DuplicatedCode")
 public class BiomeUtils implements ExtendedModule {
+    /**
+     * The config paths this module depends on
+     */
+    private static final List<String> CONFIG_PATHS = StringUtils.newArrayList("biomeSettings", "generalSettings.detectBiomeData", "advancedSettings.formatWords");
     /**
      * A List of the detected Biome Names
      */
@@ -92,6 +97,10 @@ public class BiomeUtils implements ExtendedModule {
      * The Player's Current Biome, if any
      */
     private Biome CURRENT_BIOME;
+    /**
+     * The resolver for the current biome's module data
+     */
+    private final ModuleDataResolver resolver = new ModuleDataResolver(this);
 
     @Override
     public void clearFieldData() {
@@ -112,6 +121,11 @@ public class BiomeUtils implements ExtendedModule {
         hasInitialized = false;
     }
 
+    @Override
+    public void invalidateData() {
+        resolver.invalidate();
+    }
+
     @Override
     public void updateData() {
         final Biome newBiome = CraftPresence.world.getBiome(CraftPresence.player.getPosition());
@@ -155,21 +169,15 @@ public class BiomeUtils implements ExtendedModule {
         syncArgument("biome.name", () -> CURRENT_BIOME_NAME, true);
 
         syncArgument("biome.message", () -> {
-            final ModuleData defaultData = getDefaultData();
-            final ModuleData currentData = getData(CURRENT_BIOME_IDENTIFIER);
-
-            final String defaultMessage = Config.isValidProperty(defaultData, "textOverride") ? defaultData.getTextOverride() : "";
-            return getResult(Config.isValidProperty(currentData, "textOverride") ? currentData.getTextOverride() : defaultMessage, CURRENT_BIOME_IDENTIFIER);
+            final ResolvedModuleData resolvedData = resolver.resolve(CURRENT_BIOME_IDENTIFIER);
+            return getResult(resolvedData.getTextOverride(""), resolvedData.data());
         });
         syncArgument("biome.icon", () -> {
-            final ModuleData defaultData = getDefaultData();
-            final ModuleData currentData = getData(CURRENT_BIOME_IDENTIFIER);
-
-            final String defaultIcon = Config.isValidProperty(defaultData, "iconOverride") ? defaultData.getIconOverride() : CURRENT_BIOME_IDENTIFIER;
-            final String currentIcon = Config.isValidProperty(currentData, "iconOverride") ? currentData.getIconOverride() : defaultIcon;
+            final ResolvedModuleData resolvedData = resolver.resolve(CURRENT_BIOME_IDENTIFIER);
+            final String currentIcon = resolvedData.getIconOverride(CURRENT_BIOME_IDENTIFIER);
             return getResult(CraftPresence.CLIENT.imageOf(true, currentIcon, CraftPresence.CONFIG.biomeSettings.fallbackBiomeIcon, CURRENT_BIOME_IDENTIFIER));
         });
-        CraftPresence.CLIENT.addForcedData("biome", () -> isInUse() ? getPresenceData(CURRENT_BIOME_IDENTIFIER) : null);
+        CraftPresence.CLIENT.addForcedData("biome", () -> isInUse() ? resolver.resolve(CURRENT_BIOME_IDENTIFIER).presenceData() : null);
         CraftPresence.CLIENT.syncTimestamp("data.biome.time");
     }
 
@@ -232,6 +240,11 @@ public class BiomeUtils implements ExtendedModule {
         }
     }
 
+    @Override
+    public List<String> getConfigPaths() {
+        return CONFIG_PATHS;
+    }
+
     @Override
     public void getConfigData() {
         for (String biomeEntry : CraftPresence.CONFIG.biomeSettings.biomeData.keySet()) {
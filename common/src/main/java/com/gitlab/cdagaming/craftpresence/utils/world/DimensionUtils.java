@@ -25,9 +25,10 @@
 package com.gitlab.cdagaming.craftpresence.utils.world;
 
 import com.gitlab.cdagaming.craftpresence.CraftPresence;
-import com.gitlab.cdagaming.craftpresence.core.config.Config;
 import com.gitlab.cdagaming.craftpresence.core.config.element.ModuleData;
 import com.gitlab.cdagaming.craftpresence.core.impl.ExtendedModule;
+import com.gitlab.cdagaming.craftpresence.core.impl.ModuleDataResolver;
+import com.gitlab.cdagaming.craftpresence.core.impl.ResolvedModuleData;
 import io.github.cdagaming.unicore.utils.FileUtils;
 import io.github.cdagaming.unicore.utils.MappingUtils;
 import io.github.cdagaming.unicore.utils.StringUtils;
@@ -46,6 +47,10 @@ import java.util.function.Supplier;
  */
 @SuppressWarnings("DuplicatedCode")
 public class DimensionUtils implements ExtendedModule {
+    /**
+     * The config paths this module depends on
+     */
+    private static final List<String> CONFIG_PATHS = StringUtils.newArrayList("dimensionSettings", "generalSettings.detectDimensionData", "advancedSettings.formatWords");
     /**
      * A List of the detected Dimension Names
      */
@@ -94,6 +99,10 @@ public class DimensionUtils implements ExtendedModule {
      * The Player's Current Dimension, if any
      */
     private WorldProvider CURRENT_DIMENSION;
+    /**
+     * The resolver for the current dimension's module data
+     */
+    private final ModuleDataResolver resolver = new ModuleDataResolver(this);
 
     @Override
     public void clearFieldData() {
@@ -114,6 +123,11 @@ public class DimensionUtils implements ExtendedModule {
         hasInitialized = false;
     }
 
+    @Override
+    public void invalidateData() {
+        resolver.invalidate();
+    }
+
     @Override
     public void updateData() {
         final WorldProvider newProvider = CraftPresence.world.provider;
@@ -158,21 +172,15 @@ public class DimensionUtils implements ExtendedModule {
         syncArgument("dimension.name", () -> CURRENT_DIMENSION_NAME, true);
 
         syncArgument("dimension.message", () -> {
-            final ModuleData defaultData = getDefaultData();
-            final ModuleData currentData = getData(CURRENT_DIMENSION_IDENTIFIER);
-
-            final String defaultMessage = Config.isValidProperty(defaultData, "textOverride") ? defaultData.getTextOverride() : "";
-            return getResult(Config.isValidProperty(currentData, "textOverride") ? currentData.getTextOverride() : defaultMessage, CURRENT_DIMENSION_IDENTIFIER);
+            final ResolvedModuleData resolvedData = resolver.resolve(CURRENT_DIMENSION_IDENTIFIER);
+            return getResult(resolvedData.getTextOverride(""), resolvedData.data());
         });
         syncArgument("dimension.icon", () -> {
-            final ModuleData defaultData = getDefaultData();
-            final ModuleData currentData = getData(CURRENT_DIMENSION_IDENTIFIER);
-
-            final String defaultIcon = Config.isValidProperty(defaultData, "iconOverride") ? defaultData.getIconOverride() : CURRENT_DIMENSION_IDENTIFIER;
-            final String currentIcon = Config.isValidProperty(currentData, "iconOverride") ? currentData.getIconOverride() : defaultIcon;
-            return getResult(CraftPresence.CLIENT.imageOf(true, currentIcon, CraftPresence.CONFIG.dimensionSettings.fallbackDimensionIcon), CURRENT_DIMENSION_IDENTIFIER);
+            final ResolvedModuleData resolvedData = resolver.resolve(CURRENT_DIMENSION_IDENTIFIER);
+            final String currentIcon = resolvedData.getIconOverride(CURRENT_DIMENSION_IDENTIFIER);
+            return getResult(CraftPresence.CLIENT.imageOf(true, currentIcon, CraftPresence.CONFIG.dimensionSettings.fallbackDimensionIcon), resolvedData.data());
         });
-        CraftPresence.CLIENT.addForcedData("dimension", () -> isInUse() ? getPresenceData(CURRENT_DIMENSION_IDENTIFIER) : null);
+        CraftPresence.CLIENT.addForcedData("dimension", () -> isInUse() ? resolver.resolve(CURRENT_DIMENSION_IDENTIFIER).presenceData() : null);
         CraftPresence.CLIENT.syncTimestamp("data.dimension.time");
     }
 
@@ -241,6 +249,11 @@ public class DimensionUtils implements ExtendedModule {
         }
     }
 
+    @Override
+    public List<String> getConfigPaths() {
+        return CONFIG_PATHS;
+    }
+
     @Override
     public void getConfigData() {
         for (String dimensionEntry : CraftPresence.CONFIG.dimensionSettings.dimensionData.keySet()) {
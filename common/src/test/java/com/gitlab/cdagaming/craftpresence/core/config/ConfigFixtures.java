@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.core.config;
+
+import com.gitlab.cdagaming.craftpresence.core.config.migration.JsonMigration;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Shared fixture and golden output utilities for config migration tests
+ * <p>
+ * Golden outputs are partial json trees: every value they contain must be present
+ * in the migrated output, while properties they omit are not compared
+ *
+ * @author CDAGaming
+ */
+public final class ConfigFixtures {
+    private ConfigFixtures() {
+        // N/A
+    }
+
+    /**
+     * Open the specified test resource
+     *
+     * @param resource The resource path, relative to the test resources root
+     * @return the resource stream
+     */
+    public static InputStream open(final String resource) {
+        final InputStream stream = ConfigFixtures.class.getResourceAsStream("/" + resource);
+        assertNotNull(stream, "Missing test resource: " + resource);
+        return stream;
+    }
+
+    /**
+     * Read the specified test resource as a json tree
+     *
+     * @param resource The resource path, relative to the test resources root
+     * @return the parsed json tree
+     * @throws IOException If the resource is unable to be read
+     */
+    public static JsonElement readJson(final String resource) throws IOException {
+        try (Reader reader = new InputStreamReader(open(resource), StandardCharsets.UTF_8)) {
+            return JsonParser.parseReader(reader);
+        }
+    }
+
+    /**
+     * Copy the specified test resource into a directory
+     *
+     * @param resource  The resource path, relative to the test resources root
+     * @param directory The directory to copy the resource into
+     * @param fileName  The file name to copy the resource as
+     * @return the copied file
+     * @throws IOException If the resource is unable to be copied
+     */
+    public static Path copy(final String resource, final Path directory, final String fileName) throws IOException {
+        final Path target = directory.resolve(fileName);
+        try (InputStream stream = open(resource)) {
+            Files.copy(stream, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return target;
+    }
+
+    /**
+     * Add the specified amount of generated gui entries to the specified schema v2 json tree
+     * <p>
+     * Each entry uses placeholders that are renamed by later schema versions
+     *
+     * @param rawJson The schema v2 json tree to modify
+     * @param count   The amount of entries to generate
+     * @return the modified json tree
+     */
+    public static JsonElement addGuiEntries(final JsonElement rawJson, final int count) {
+        final JsonObject guiData = JsonMigration.getObject(rawJson.getAsJsonObject(), "advancedSettings", "guiSettings", "guiData");
+        for (int i = 0; i < count; i++) {
+            final JsonObject entry = new JsonObject();
+            entry.addProperty("textOverride", "Screen " + i + " at {world.time24} ({data.screen.class})");
+            guiData.add("GuiScreen" + i, entry);
+        }
+        return rawJson;
+    }
+
+    /**
+     * Generate a Simple RPC server entries file, with the specified amount of entries
+     * <p>
+     * Entries reuse each address twice, so that later entries must still take priority
+     *
+     * @param count The amount of entries to generate
+     * @return the generated file contents
+     */
+    public static String generateServerEntries(final int count) {
+        final StringBuilder entries = new StringBuilder("version = 1\nenabled = true\n");
+        for (int i = 0; i < count; i++) {
+            entries.append("\n[[entry]]\n")
+                    .append("\tip = \"server").append(i % (count / 2)).append(".example.com\"\n")
+                    .append("\tdescription = \"Entry ").append(i).append("\"\n")
+                    .append("\tstate = \"%players%\"\n")
+                    .append("\tlargeImageKey = \"\"\n")
+                    .append("\tlargeImageText = \"\"\n")
+                    .append("\tsmallImageKey = \"\"\n")
+                    .append("\tsmallImageText = \"\"\n");
+        }
+        return entries.toString();
+    }
+
+    /**
+     * Assert that the specified json tree matches the golden output from the specified resource
+     *
+     * @param resource The golden output path, relative to the test resources root
+     * @param actual   The json tree to interpret
+     * @throws IOException If the golden output is unable to be read
+     */
+    public static void assertGolden(final String resource, final JsonElement actual) throws IOException {
+        assertMatches(readJson(resource), actual, "$");
+    }
+
+    /**
+     * Assert that every value within the expected json tree is present in the actual json tree
+     *
+     * @param expected The expected (partial) json tree
+     * @param actual   The actual json tree
+     * @param path     The current path, used for failure messages
+     */
+    private static void assertMatches(final JsonElement expected, final JsonElement actual, final String path) {
+        if (expected.isJsonObject()) {
+            assertTrue(actual != null && actual.isJsonObject(), "Expected an object at " + path);
+            final JsonObject actualData = actual.getAsJsonObject();
+            for (Map.Entry<String, JsonElement> entry : expected.getAsJsonObject().entrySet()) {
+                final String childPath = path + "." + entry.getKey();
+                if (entry.getValue().isJsonNull()) {
+                    // A null golden value asserts that the member has been removed
+                    assertTrue(!actualData.has(entry.getKey()) || actualData.get(entry.getKey()).isJsonNull(),
+                            "Expected no value at " + childPath);
+                } else {
+                    assertMatches(entry.getValue(), actualData.get(entry.getKey()), childPath);
+                }
+            }
+        } else {
+            assertEquals(expected, actual, "Mismatched value at " + path);
+        }
+    }
+}
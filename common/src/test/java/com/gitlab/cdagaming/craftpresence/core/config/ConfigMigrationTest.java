@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.core.config;
+
+import com.gitlab.cdagaming.craftpresence.core.config.element.ModuleData;
+import com.google.gson.JsonElement;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Tests for the schema migrations applied by {@link Config#handleMigrations}
+ *
+ * @author CDAGaming
+ */
+class ConfigMigrationTest {
+    /**
+     * The amount of generated gui entries, used for the large config test
+     */
+    private static final int LARGE_ENTRY_COUNT = 2000;
+
+    private static JsonElement migrate(final JsonElement rawJson) {
+        final int oldVer = rawJson.getAsJsonObject().get("_schemaVersion").getAsInt();
+        return Config.getDefaultData().handleMigrations(rawJson, oldVer, Config.getSchemaVersion());
+    }
+
+    @Test
+    void migratesFromSchemaV1() throws Exception {
+        ConfigFixtures.assertGolden("migration/schema/v1.expected.json", migrate(ConfigFixtures.readJson("migration/schema/v1.json")));
+    }
+
+    @Test
+    void migratesFromSchemaV2() throws Exception {
+        ConfigFixtures.assertGolden("migration/schema/v2.expected.json", migrate(ConfigFixtures.readJson("migration/schema/v2.json")));
+    }
+
+    @Test
+    void leavesCurrentSchemaAsIs() throws Exception {
+        final JsonElement rawJson = ConfigFixtures.readJson("migration/schema/v2.json");
+        rawJson.getAsJsonObject().addProperty("_schemaVersion", Config.getSchemaVersion());
+
+        final Config instance = Config.getDefaultData();
+        instance.handleMigrations(rawJson, Config.getSchemaVersion(), Config.getSchemaVersion());
+        assertEquals(Config.getDefaultData().displaySettings.presenceData.details, instance.displaySettings.presenceData.details);
+    }
+
+    @Test
+    void migratesFromSchemaV1WithShowTime() throws Exception {
+        ConfigFixtures.assertGolden("migration/schema/v1-show-time.expected.json", migrate(ConfigFixtures.readJson("migration/schema/v1-show-time.json")));
+    }
+
+    @Test
+    void migratesFromSchemaV2WithModuleData() throws Exception {
+        ConfigFixtures.assertGolden("migration/schema/v2-modules.expected.json", migrate(ConfigFixtures.readJson("migration/schema/v2-modules.json")));
+    }
+
+    @Test
+    void migratesLargeConfig() throws Exception {
+        final JsonElement rawJson = ConfigFixtures.addGuiEntries(ConfigFixtures.readJson("migration/schema/v2.json"), LARGE_ENTRY_COUNT);
+
+        final Config instance = Config.getDefaultData();
+        instance.handleMigrations(rawJson, 2, Config.getSchemaVersion());
+        for (int i = 0; i < LARGE_ENTRY_COUNT; i++) {
+            final ModuleData data = instance.advancedSettings.guiSettings.guiData.get("GuiScreen" + i);
+            assertNotNull(data);
+            assertEquals("Screen " + i + " at {world.time.format_24} ({getClass(data.screen.instance)})", data.getTextOverride());
+        }
+    }
+}
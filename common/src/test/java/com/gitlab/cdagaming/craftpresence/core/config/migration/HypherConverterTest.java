@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.core.config.migration;
+
+import com.gitlab.cdagaming.craftpresence.core.config.Config;
+import com.gitlab.cdagaming.craftpresence.core.config.ConfigFixtures;
+import com.gitlab.cdagaming.craftpresence.core.config.element.ModuleData;
+import com.jagrosh.discordipc.entities.ActivityType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Tests for the {@link HypherConverter} (Simple RPC toml to json) migration
+ *
+ * @author CDAGaming
+ */
+class HypherConverterTest {
+    /**
+     * The amount of generated server entries, above the parallel conversion threshold
+     */
+    private static final int LARGE_ENTRY_COUNT = 500;
+
+    @TempDir
+    Path tempDir;
+
+    private Config convert() {
+        return new HypherConverter(new AbstractMap.SimpleEntry<>(0, tempDir.toString() + File.separator))
+                .apply(Config.getDefaultData(), null);
+    }
+
+    @Test
+    void migratesSimpleRpcConfig() throws Exception {
+        ConfigFixtures.copy("migration/simple-rpc/simple-rpc.toml", tempDir, "simple-rpc.toml");
+        ConfigFixtures.copy("migration/simple-rpc/server-entries.toml", tempDir, "server-entries.toml");
+
+        ConfigFixtures.assertGolden("migration/simple-rpc/expected.json", convert().toJson());
+    }
+
+    @Test
+    void migratesImagePools() throws Exception {
+        ConfigFixtures.copy("migration/simple-rpc/v17/simple-rpc.toml", tempDir, "simple-rpc.toml");
+
+        ConfigFixtures.assertGolden("migration/simple-rpc/v17/expected.json", convert().toJson());
+    }
+
+    @Test
+    void migratesMultiPresenceConfig() throws Exception {
+        ConfigFixtures.copy("migration/simple-rpc/v25/simple-rpc.toml", tempDir, "simple-rpc.toml");
+        ConfigFixtures.copy("migration/simple-rpc/v25/server-entries.toml", tempDir, "server-entries.toml");
+        final Config result = convert();
+
+        ConfigFixtures.assertGolden("migration/simple-rpc/v25/expected.json", result.toJson());
+        assertEquals(ActivityType.Watching.ordinal(), result.statusMessages.mainMenuData.getData().activityType);
+        assertEquals(ActivityType.Competing.ordinal(), result.advancedSettings.guiSettings.guiData.get("GuiIngameMenu").getData().activityType);
+        assertEquals(ActivityType.Playing.ordinal(), result.serverSettings.serverData.get("default").getData().activityType);
+        assertEquals(ActivityType.Streaming.ordinal(), result.serverSettings.serverData.get("mc.example.net").getData().activityType);
+    }
+
+    @Test
+    void skipsUnsupportedVersions() throws Exception {
+        ConfigFixtures.copy("migration/simple-rpc/unsupported.toml", tempDir, "simple-rpc.toml");
+        final Config defaults = Config.getDefaultData();
+        final Config result = convert();
+
+        assertEquals(defaults.generalSettings.clientId, result.generalSettings.clientId);
+        assertEquals(defaults.advancedSettings.debugMode, result.advancedSettings.debugMode);
+    }
+
+    @Test
+    void convertsLargeServerListInOrder() throws Exception {
+        ConfigFixtures.copy("migration/simple-rpc/simple-rpc.toml", tempDir, "simple-rpc.toml");
+
+        Files.write(tempDir.resolve("server-entries.toml"),
+                ConfigFixtures.generateServerEntries(LARGE_ENTRY_COUNT).getBytes(StandardCharsets.UTF_8));
+
+        final Config result = convert();
+        for (int i = 0; i < LARGE_ENTRY_COUNT / 2; i++) {
+            final ModuleData data = result.serverSettings.serverData.get("server" + i + ".example.com");
+            assertNotNull(data);
+            assertEquals("Entry " + (i + LARGE_ENTRY_COUNT / 2), data.getData().details);
+            assertEquals("{server.players.current}", data.getData().gameState);
+        }
+    }
+}
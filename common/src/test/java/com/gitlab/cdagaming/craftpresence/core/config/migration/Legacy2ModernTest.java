@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.core.config.migration;
+
+import com.gitlab.cdagaming.craftpresence.core.config.Config;
+import com.gitlab.cdagaming.craftpresence.core.config.ConfigFixtures;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Tests for the {@link Legacy2Modern} (v1 properties to v2+ json) migration
+ *
+ * @author CDAGaming
+ */
+class Legacy2ModernTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void migratesLegacyProperties() throws Exception {
+        final Path legacyFile = ConfigFixtures.copy("migration/legacy/craftpresence.properties", tempDir, "craftpresence.properties");
+        final Config result = new Legacy2Modern(legacyFile.toFile(), "UTF-8").apply(Config.getDefaultData(), null);
+
+        ConfigFixtures.assertGolden("migration/legacy/expected.json", result.toJson());
+        // The legacy file is removed once migrated, so that the migration only runs once
+        assertFalse(Files.exists(legacyFile));
+    }
+
+    @Test
+    void leavesUnmappedPropertiesAtDefaults() throws Exception {
+        final Path legacyFile = ConfigFixtures.copy("migration/legacy/craftpresence.properties", tempDir, "craftpresence.properties");
+        final Config defaults = Config.getDefaultData();
+        final Config result = new Legacy2Modern(legacyFile.toFile(), "UTF-8").apply(Config.getDefaultData(), null);
+
+        assertEquals(defaults.generalSettings.detectTechnicPack, result.generalSettings.detectTechnicPack);
+        assertEquals(defaults.displaySettings.presenceData.smallImageKey, result.displaySettings.presenceData.smallImageKey);
+    }
+
+    @Test
+    void migratesModuleMessages() throws Exception {
+        final Path legacyFile = ConfigFixtures.copy("migration/legacy/modules.properties", tempDir, "craftpresence.properties");
+        final Config result = new Legacy2Modern(legacyFile.toFile(), "UTF-8").apply(Config.getDefaultData(), null);
+
+        ConfigFixtures.assertGolden("migration/legacy/modules.expected.json", result.toJson());
+    }
+
+    @Test
+    void migratesPlaceholders() throws Exception {
+        final Path legacyFile = ConfigFixtures.copy("migration/legacy/placeholders.properties", tempDir, "craftpresence.properties");
+        final Config result = new Legacy2Modern(legacyFile.toFile(), "UTF-8").apply(Config.getDefaultData(), null);
+
+        ConfigFixtures.assertGolden("migration/legacy/placeholders.expected.json", result.toJson());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.core.config.migration;
+
+import com.gitlab.cdagaming.craftpresence.core.config.Config;
+import com.gitlab.cdagaming.craftpresence.core.config.ConfigFixtures;
+import com.google.gson.JsonElement;
+import io.github.cdagaming.unicore.impl.HashMapBuilder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.AbstractMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+
+/**
+ * Timing checks for the config migrations, run through the "benchmark" task
+ * <p>
+ * Bounds are kept well above the expected timings, so that only severe regressions are reported
+ *
+ * @author CDAGaming
+ */
+@Tag("benchmark")
+class MigrationBenchmark {
+    /**
+     * The amount of generated gui entries, used for the schema migration check
+     */
+    private static final int GUI_ENTRY_COUNT = 2000;
+    /**
+     * The amount of generated server entries, used for the Simple RPC migration check
+     */
+    private static final int SERVER_ENTRY_COUNT = 500;
+    /**
+     * The amount of iterations, used for the text replacement check
+     */
+    private static final int REPLACE_ITERATIONS = 100_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void migratesLargeConfig() throws Exception {
+        final JsonElement rawJson = ConfigFixtures.addGuiEntries(ConfigFixtures.readJson("migration/schema/v2.json"), GUI_ENTRY_COUNT);
+
+        assertTimeout(Duration.ofSeconds(30), () ->
+                Config.getDefaultData().handleMigrations(rawJson, 2, Config.getSchemaVersion())
+        );
+    }
+
+    @Test
+    void convertsLargeServerList() throws Exception {
+        ConfigFixtures.copy("migration/simple-rpc/simple-rpc.toml", tempDir, "simple-rpc.toml");
+        Files.write(tempDir.resolve("server-entries.toml"),
+                ConfigFixtures.generateServerEntries(SERVER_ENTRY_COUNT).getBytes(StandardCharsets.UTF_8));
+
+        assertTimeout(Duration.ofSeconds(30), () ->
+                new HypherConverter(new AbstractMap.SimpleEntry<>(0, tempDir.toString() + File.separator))
+                        .apply(Config.getDefaultData(), null)
+        );
+    }
+
+    @Test
+    void migratesLegacyProperties() throws Exception {
+        final Path legacyFile = ConfigFixtures.copy("migration/legacy/craftpresence.properties", tempDir, "craftpresence.properties");
+
+        assertTimeout(Duration.ofSeconds(20), () ->
+                new Legacy2Modern(legacyFile.toFile(), "UTF-8").apply(Config.getDefaultData(), null)
+        );
+    }
+
+    @Test
+    void processesRepeatedText() {
+        final TextReplacer replacer = new TextReplacer(new HashMapBuilder<String, String>()
+                .put("world.time24", "world.time.format_24")
+                .put("world.day", "world.time.day")
+                .build(), true);
+        final String input = "Day {world.day} at {world.time24}, playing as {player.name}";
+
+        assertTimeout(Duration.ofSeconds(20), () -> {
+            for (int i = 0; i < REPLACE_ITERATIONS; i++) {
+                assertEquals("Day {world.time.day} at {world.time.format_24}, playing as {player.name}", replacer.process(input));
+            }
+        });
+    }
+}
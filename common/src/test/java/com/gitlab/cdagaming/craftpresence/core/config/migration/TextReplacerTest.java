@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.core.config.migration;
+
+import com.gitlab.cdagaming.craftpresence.core.config.Config;
+import com.google.gson.JsonElement;
+import io.github.cdagaming.unicore.impl.HashMapBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for the {@link TextReplacer} migration
+ *
+ * @author CDAGaming
+ */
+class TextReplacerTest {
+    private static final Map<String, String> REPLACERS = new HashMapBuilder<String, String>()
+            .put("world.time24", "world.time.format_24")
+            .put("world.day", "world.time.day")
+            .build();
+
+    @Test
+    void replacesWithinPlaceholdersOnly() {
+        final TextReplacer replacer = new TextReplacer(REPLACERS, true);
+        assertEquals("{world.time.day} world.day", replacer.process("{world.day} world.day"));
+        assertEquals("At {world.time.format_24} on {world.time.day}", replacer.process("At {world.time24} on {world.day}"));
+    }
+
+    @Test
+    void replacesAnywhereOutsidePlaceholderMode() {
+        final TextReplacer replacer = new TextReplacer(REPLACERS, false);
+        assertEquals("{world.time.day} world.time.day", replacer.process("{world.day} world.day"));
+    }
+
+    @Test
+    void returnsUnchangedInputAsIs() {
+        final TextReplacer replacer = new TextReplacer(REPLACERS, true);
+        final String original = "{player.name} world.day";
+        assertSame(original, replacer.process(original));
+    }
+
+    @Test
+    void limitsPropertiesToModules() {
+        final TextReplacer replacer = new TextReplacer(REPLACERS, true);
+        assertEquals("{world.time.day}", replacer.processProperty(
+                Arrays.asList("displaySettings", "presenceData", "details"), "{world.day}"
+        ));
+        // Entries of user-defined mappings are left as-is
+        assertEquals("{world.day}", replacer.processProperty(
+                Arrays.asList("displaySettings", "dynamicVariables", "note"), "{world.day}"
+        ));
+    }
+
+    @Test
+    void appliesToInstanceOnly() {
+        final Config instance = Config.getDefaultData();
+        instance.displaySettings.presenceData.details = "{world.day}";
+        instance.displaySettings.dynamicVariables.put("note", "{world.day}");
+        final JsonElement rawJson = instance.toJson();
+
+        new TextReplacer(REPLACERS, true).apply(instance, rawJson);
+
+        assertEquals("{world.time.day}", instance.displaySettings.presenceData.details);
+        assertEquals("{world.day}", instance.displaySettings.dynamicVariables.get("note"));
+        // The raw json is only used to locate properties, and is not modified
+        assertEquals("{world.day}", rawJson.getAsJsonObject()
+                .getAsJsonObject("displaySettings")
+                .getAsJsonObject("presenceData")
+                .get("details").getAsString());
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.core.impl;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.cdagaming.unicore.utils.UrlUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link FetchCache}, against a local http server standing in for remote sources
+ *
+ * @author CDAGaming
+ */
+class FetchCacheTest {
+    /**
+     * The time entries remain fresh for, in milliseconds
+     */
+    private static final long TIME_TO_LIVE = 250L;
+    /**
+     * A time to live that will not elapse during a test, in milliseconds
+     */
+    private static final long LONG_TIME_TO_LIVE = 60000L;
+    /**
+     * The maximum time to wait for a fetch, in seconds
+     */
+    private static final long FETCH_TIMEOUT = 5L;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicReference<String> body = new AtomicReference<>("{\"value\":1}");
+    private final AtomicReference<CountDownLatch> gate = new AtomicReference<>();
+    private HttpServer server;
+    private boolean isServerRunning;
+    private String source;
+    private FetchCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/data.json", this::handle);
+        server.start();
+        isServerRunning = true;
+        source = "http://127.0.0.1:" + server.getAddress().getPort() + "/data.json";
+        cache = new FetchCache(url -> UrlUtils.getURLText(url, "UTF-8"), TIME_TO_LIVE, 8, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+        stopServer();
+    }
+
+    private void stopServer() {
+        if (isServerRunning) {
+            server.stop(0);
+            isServerRunning = false;
+        }
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        final CountDownLatch latch = gate.get();
+        if (latch != null) {
+            try {
+                latch.await(FETCH_TIMEOUT, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        final byte[] data = body.get().getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, data.length);
+        try (OutputStream stream = exchange.getResponseBody()) {
+            stream.write(data);
+        }
+    }
+
+    private FetchCache.Entry await(final CompletableFuture<FetchCache.Entry> task) throws Exception {
+        return task.get(FETCH_TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void servesFreshEntriesWithoutRefetching() throws Exception {
+        // The first lookup never blocks, and starts the fetch in the background
+        assertNull(cache.get(source, LONG_TIME_TO_LIVE));
+        await(cache.refresh(source));
+
+        body.set("{\"value\":2}");
+        final FetchCache.Entry entry = cache.get(source);
+        assertNotNull(entry);
+        assertEquals("{\"value\":1}", entry.value());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void servesStaleEntriesWhileRevalidating() throws Exception {
+        cache.get(source);
+        final FetchCache.Entry first = await(cache.refresh(source));
+        body.set("{\"value\":2}");
+        Thread.sleep(TIME_TO_LIVE * 2);
+
+        // Expired entries are still returned, while a refresh runs in the background
+        final CountDownLatch latch = new CountDownLatch(1);
+        gate.set(latch);
+        final FetchCache.Entry stale = cache.get(source);
+        assertSame(first, stale);
+        assertTrue(stale.isExpired());
+
+        latch.countDown();
+        final FetchCache.Entry fresh = await(cache.refresh(source));
+        assertEquals("{\"value\":2}", fresh.value());
+        assertSame(fresh, cache.get(source));
+    }
+
+    @Test
+    void usesTimeToLivePerRequest() throws Exception {
+        final FetchCache.Entry entry = await(cache.refresh(source, LONG_TIME_TO_LIVE));
+        Thread.sleep(TIME_TO_LIVE * 2);
+
+        // The entry outlives the default time to live, so no refresh is started
+        assertFalse(entry.isExpired());
+        assertSame(entry, cache.get(source));
+        assertEquals(1, requests.get());
+
+        final FetchCache.Entry expired = await(cache.refresh(source, 0L));
+        assertTrue(expired.isExpired());
+    }
+
+    @Test
+    void sharesInFlightFetches() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        gate.set(latch);
+
+        final CompletableFuture<FetchCache.Entry> task = cache.refresh(source);
+        for (int i = 0; i < 10; i++) {
+            assertNull(cache.get(source));
+            assertSame(task, cache.refresh(source));
+        }
+
+        latch.countDown();
+        assertEquals("{\"value\":1}", await(task).value());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void retainsValueOnFailure() throws Exception {
+        final FetchCache.Entry first = await(cache.refresh(source, LONG_TIME_TO_LIVE));
+        stopServer();
+
+        final FetchCache.Entry failed = await(cache.refresh(source, LONG_TIME_TO_LIVE));
+        assertNotNull(failed.error());
+        assertTrue(failed.hasValue());
+        assertEquals(first.value(), failed.value());
+        // The failure is cached until it expires, rather than retried on every lookup
+        assertSame(failed, cache.get(source));
+    }
+
+    @Test
+    void recordsFailureWithoutValue() throws Exception {
+        stopServer();
+
+        final FetchCache.Entry failed = await(cache.refresh(source));
+        assertNotNull(failed.error());
+        assertFalse(failed.hasValue());
+    }
+
+    @Test
+    void restartsAfterShutdown() throws Exception {
+        await(cache.refresh(source));
+        cache.shutdown();
+        cache.clear();
+
+        assertEquals("{\"value\":1}", await(cache.refresh(source)).value());
+        assertEquals(2, requests.get());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.core.impl;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link JsonPath}, covering member and index resolution and its error cases
+ *
+ * @author CDAGaming
+ */
+class JsonPathTest {
+    private static final JsonElement DOCUMENT = JsonParser.parseString(
+            "{\"name\":\"pack\",\"empty\":null,\"items\":[{\"id\":1},{\"id\":2}],\"nested\":{\"value\":\"text\"}}"
+    );
+
+    private static JsonElement resolve(final String... parts) {
+        return JsonPath.compile(Arrays.asList(parts)).resolve(DOCUMENT);
+    }
+
+    @Test
+    void resolvesMembersAndIndexes() {
+        assertEquals("pack", resolve("name").getAsString());
+        assertEquals("text", resolve("nested", "value").getAsString());
+        assertEquals(2, resolve("items", "1", "id").getAsInt());
+    }
+
+    @Test
+    void emptyPathReturnsRoot() {
+        assertSame(DOCUMENT, resolve());
+    }
+
+    @Test
+    void returnsPrimitivesAndNullsReachedEarly() {
+        assertEquals("pack", resolve("name", "extra").getAsString());
+        assertSame(JsonNull.INSTANCE, resolve("empty", "extra"));
+    }
+
+    @Test
+    void rejectsMissingMembers() {
+        final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> resolve("nested", "missing"));
+        assertEquals("Missing member: missing", ex.getMessage());
+    }
+
+    @Test
+    void rejectsInvalidIndexes() {
+        assertEquals("Invalid array index: 2",
+                assertThrows(IllegalArgumentException.class, () -> resolve("items", "2")).getMessage());
+        assertEquals("Invalid array index: -1",
+                assertThrows(IllegalArgumentException.class, () -> resolve("items", "-1")).getMessage());
+        assertEquals("Invalid array index: first",
+                assertThrows(IllegalArgumentException.class, () -> resolve("items", "first")).getMessage());
+    }
+}
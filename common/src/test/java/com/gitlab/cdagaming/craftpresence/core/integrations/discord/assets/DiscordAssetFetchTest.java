@@ -0,0 +1,174 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2026 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.core.integrations.discord.assets;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link DiscordAssetUtils#fetchAssets(String, DiscordAssetCache)},
+ * against a local http server standing in for the assets endpoint
+ *
+ * @author CDAGaming
+ */
+class DiscordAssetFetchTest {
+    private static final String LAST_MODIFIED = "Mon, 19 Oct 2026 09:00:00 GMT";
+
+    private final AtomicInteger fullResponses = new AtomicInteger();
+    private final AtomicReference<String> body = new AtomicReference<>("[{\"type\":\"1\",\"id\":\"100\",\"name\":\"first\"}]");
+    private final AtomicReference<String> eTag = new AtomicReference<>("\"v1\"");
+    private final AtomicReference<String> lastModified = new AtomicReference<>();
+    private final AtomicReference<String> ifNoneMatch = new AtomicReference<>();
+    private final AtomicReference<String> ifModifiedSince = new AtomicReference<>();
+    private final AtomicInteger status = new AtomicInteger(200);
+    private HttpServer server;
+    private String source;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/assets", this::handle);
+        server.start();
+        source = "http://127.0.0.1:" + server.getAddress().getPort() + "/assets";
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        ifNoneMatch.set(exchange.getRequestHeaders().getFirst("If-None-Match"));
+        ifModifiedSince.set(exchange.getRequestHeaders().getFirst("If-Modified-Since"));
+
+        final String currentTag = eTag.get();
+        final String currentModified = lastModified.get();
+        final boolean isUnchanged = (currentTag != null && currentTag.equals(ifNoneMatch.get())) ||
+                (currentTag == null && currentModified != null && currentModified.equals(ifModifiedSince.get()));
+        if (status.get() != 200) {
+            exchange.sendResponseHeaders(status.get(), -1);
+            exchange.close();
+            return;
+        } else if (isUnchanged) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+
+        fullResponses.incrementAndGet();
+        if (currentTag != null) {
+            exchange.getResponseHeaders().set("ETag", currentTag);
+        }
+        if (currentModified != null) {
+            exchange.getResponseHeaders().set("Last-Modified", currentModified);
+        }
+        final byte[] data = body.get().getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, data.length);
+        try (OutputStream stream = exchange.getResponseBody()) {
+            stream.write(data);
+        }
+    }
+
+    @Test
+    void storesValidatorsFromFullResponse() throws Exception {
+        lastModified.set(LAST_MODIFIED);
+
+        final DiscordAssetCache data = DiscordAssetUtils.fetchAssets(source, null);
+        assertNull(ifNoneMatch.get());
+        assertNull(ifModifiedSince.get());
+        assertEquals("\"v1\"", data.getETag());
+        assertEquals(LAST_MODIFIED, data.getLastModified());
+        assertEquals(1, data.getAssets().length);
+        assertEquals("first", data.getAssets()[0].getName());
+    }
+
+    @Test
+    void reusesCacheWhenNotModified() throws Exception {
+        final DiscordAssetCache cached = DiscordAssetUtils.fetchAssets(source, null);
+
+        assertSame(cached, DiscordAssetUtils.fetchAssets(source, cached));
+        assertEquals("\"v1\"", ifNoneMatch.get());
+        assertEquals(1, fullResponses.get());
+    }
+
+    @Test
+    void revalidatesWithLastModified() throws Exception {
+        eTag.set(null);
+        lastModified.set(LAST_MODIFIED);
+        final DiscordAssetCache cached = DiscordAssetUtils.fetchAssets(source, null);
+
+        assertSame(cached, DiscordAssetUtils.fetchAssets(source, cached));
+        assertNull(ifNoneMatch.get());
+        assertEquals(LAST_MODIFIED, ifModifiedSince.get());
+        assertEquals(1, fullResponses.get());
+    }
+
+    @Test
+    void replacesCacheWhenChanged() throws Exception {
+        final DiscordAssetCache cached = DiscordAssetUtils.fetchAssets(source, null);
+        eTag.set("\"v2\"");
+        body.set("[{\"type\":\"1\",\"id\":\"200\",\"name\":\"second\"}]");
+
+        final DiscordAssetCache data = DiscordAssetUtils.fetchAssets(source, cached);
+        assertNotSame(cached, data);
+        assertEquals("\"v2\"", data.getETag());
+        assertEquals("second", data.getAssets()[0].getName());
+        assertEquals(2, fullResponses.get());
+    }
+
+    @Test
+    void ignoresValidatorsWithoutCachedAssets() throws Exception {
+        final DiscordAssetCache cached = new DiscordAssetCache().setETag("\"v1\"");
+
+        final DiscordAssetCache data = DiscordAssetUtils.fetchAssets(source, cached);
+        assertNull(ifNoneMatch.get());
+        assertNotSame(cached, data);
+        assertEquals(1, data.getAssets().length);
+    }
+
+    @Test
+    void rejectsUnexpectedResponses() {
+        status.set(500);
+        assertThrows(IOException.class, () -> DiscordAssetUtils.fetchAssets(source, null));
+    }
+}